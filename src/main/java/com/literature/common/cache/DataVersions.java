@@ -0,0 +1,98 @@
+package com.literature.common.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 按实体类型维护的数据版本号.
+ * SimpleHibernateDaoImpl每次写操作后递增对应实体的版本号, 读操作可以用版本号拼出ETag或缓存Key,
+ * 版本号未变即说明数据未变, 不需要再访问数据库.
+ *
+ * 版本号只在本JVM内有效, 进程重启后用epoch区分, 避免旧的ETag被误判为有效.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class DataVersions {
+
+	/**
+	 * 进程启动标识, 拼入ETag中使重启前的ETag全部失效
+	 */
+	private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+	private static final ConcurrentMap<Class<?>, AtomicLong> versions = new ConcurrentHashMap<Class<?>, AtomicLong>();
+
+	/**
+	 * 取得实体类型当前的版本号, 从未写过的类型返回0.
+	 */
+	public static long current(Class<?> entityClass) {
+		AtomicLong version = versions.get(entityClass);
+		return version == null ? 0L : version.get();
+	}
+
+	/**
+	 * 递增实体类型的版本号.
+	 * 如当前线程存在事务, 在事务提交后才递增(回滚时不递增), 避免其他线程在提交前读到旧数据并按新版本号缓存.
+	 */
+	public static void bump(final Class<?>... entityClasses) {
+		if (entityClasses == null || entityClasses.length == 0) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					increment(entityClasses);
+				}
+			});
+		} else {
+			increment(entityClasses);
+		}
+	}
+
+	/**
+	 * 根据依赖的实体类型生成版本戳, 任一类型的版本号变化都会得到不同的值.
+	 */
+	public static String stamp(Class<?>... entityClasses) {
+		StringBuilder sb = new StringBuilder(EPOCH);
+		for (Class<?> entityClass : entityClasses) {
+			sb.append('-').append(Long.toString(current(entityClass), 36));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 根据查询Key与依赖的实体类型生成弱ETag.
+	 */
+	public static String etag(String key, Class<?>... entityClasses) {
+		return etag(key, stamp(entityClasses));
+	}
+
+	/**
+	 * 根据查询Key与已生成的版本戳生成弱ETag, 与按同一版本戳缓存的内容对应.
+	 */
+	public static String etag(String key, String stamp) {
+		return "W/\"" + Integer.toHexString(key.hashCode()) + "-" + stamp + "\"";
+	}
+
+	private static void increment(Class<?>... entityClasses) {
+		for (Class<?> entityClass : entityClasses) {
+			if (entityClass == null) {
+				continue;
+			}
+			AtomicLong version = versions.get(entityClass);
+			if (version == null) {
+				AtomicLong created = new AtomicLong();
+				version = versions.putIfAbsent(entityClass, created);
+				if (version == null) {
+					version = created;
+				}
+			}
+			version.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.literature.common.cache;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.literature.common.utils.ServletUtils;
+
+/**
+ * 按(查询, 数据版本)缓存GET请求的响应内容, 用于导出、JSON列表等生成代价较高的响应.
+ * 依赖的实体类型版本号未变时, 带If-None-Match的请求直接返回304, 其余请求直接输出缓存内容, 都不访问数据库.
+ *
+ * eg.
+ * ResponseCache.serve(request, response, "depts", ServletUtils.JSON_TYPE, loader, Dept.class);
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class ResponseCache {
+
+	/**
+	 * 缓存内容占用的最大字节数
+	 */
+	private static final long MAX_BYTES = 32L * 1024 * 1024;
+
+	/**
+	 * 版本号变化后旧的缓存项不会再被命中, 依靠容量与过期时间淘汰
+	 */
+	private static final Cache<String, CachedResponse> cache = CacheBuilder.newBuilder()
+			.maximumWeight(MAX_BYTES).weigher(new Weigher<String, CachedResponse>() {
+				@Override
+				public int weigh(String key, CachedResponse value) {
+					return key.length() * 2 + value.body.length;
+				}
+			}).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+	/**
+	 * 输出缓存的响应内容.
+	 *
+	 * @param key 查询的唯一标识, 需包含影响结果的全部请求参数.
+	 * @param contentType 响应的Content-Type.
+	 * @param loader 缓存未命中时生成响应内容.
+	 * @param entityClasses 响应内容依赖的实体类型.
+	 */
+	public static void serve(HttpServletRequest request, HttpServletResponse response, String key,
+			String contentType, Callable<byte[]> loader, Class<?>... entityClasses) throws IOException {
+		String stamp = DataVersions.stamp(entityClasses);
+		String etag = DataVersions.etag(key, stamp);
+		if (!ServletUtils.checkIfNoneMatchEtag(request, response, etag)) {
+			return;
+		}
+		CachedResponse cached = get(key + '@' + stamp, loader);
+		response.setContentType(contentType);
+		ServletUtils.setEtag(response, etag);
+		response.setContentLength(cached.body.length);
+		response.getOutputStream().write(cached.body);
+	}
+
+	/**
+	 * 用于不缓存内容的响应(如流式导出): 依赖的实体类型版本号未变时返回304, 否则设置ETag.
+	 *
+	 * @return 已返回304时为false, 调用方不需要再输出内容.
+	 */
+	public static boolean checkModified(HttpServletRequest request, HttpServletResponse response, String key,
+			Class<?>... entityClasses) {
+		String etag = DataVersions.etag(key, entityClasses);
+		if (!ServletUtils.checkIfNoneMatchEtag(request, response, etag)) {
+			return false;
+		}
+		ServletUtils.setEtag(response, etag);
+		return true;
+	}
+
+	/**
+	 * 清空全部缓存.
+	 */
+	public static void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private static CachedResponse get(String cacheKey, final Callable<byte[]> loader) throws IOException {
+		try {
+			return cache.get(cacheKey, new Callable<CachedResponse>() {
+				@Override
+				public CachedResponse call() throws Exception {
+					return new CachedResponse(loader.call());
+				}
+			});
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	private static class CachedResponse {
+		private final byte[] body;
+
+		private CachedResponse(byte[] body) {
+			this.body = body;
+		}
+	}
+}
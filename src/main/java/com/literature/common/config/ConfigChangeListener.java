@@ -0,0 +1,19 @@
+package com.literature.common.config;
+
+import java.util.Set;
+
+/**
+ * 配置重新加载后的回调, 只在有属性变化时调用.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public interface ConfigChangeListener {
+
+	/**
+	 * @param previous 变化前的快照.
+	 * @param current 变化后的快照, 此时已对所有读取方可见.
+	 * @param changedKeys 新增、删除或值变化的属性名.
+	 */
+	void onChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys);
+}
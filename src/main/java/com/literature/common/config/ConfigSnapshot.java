@@ -0,0 +1,233 @@
+package com.literature.common.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 不可变的配置快照, 加载时合并属性文件与System的Property(System的Property优先), 并预先解析数值与布尔值.
+ * 读取时只做一次HashMap查找, 不加锁也不解析字符串; 配置变化时整体替换为新的快照, 见ReloadableConfig.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class ConfigSnapshot {
+
+	/**
+	 * 不含任何属性的快照
+	 */
+	public static final ConfigSnapshot EMPTY = new ConfigSnapshot(Collections.<String, Value> emptyMap());
+
+	private final Map<String, Value> values;
+
+	private ConfigSnapshot(Map<String, Value> values) {
+		this.values = values;
+	}
+
+	/**
+	 * 由属性文件内容生成快照, 同名的System的Property覆盖文件中的值.
+	 */
+	public static ConfigSnapshot of(Properties properties) {
+		return of(properties, System.getProperties());
+	}
+
+	/**
+	 * 由属性文件内容生成快照, overrides中的同名属性覆盖文件中的值.
+	 */
+	public static ConfigSnapshot of(Properties properties, Properties overrides) {
+		Map<String, Value> values = new HashMap<String, Value>();
+		for (String key : properties.stringPropertyNames()) {
+			values.put(key, new Value(properties.getProperty(key)));
+		}
+		for (String key : overrides.stringPropertyNames()) {
+			values.put(key, new Value(overrides.getProperty(key)));
+		}
+		return new ConfigSnapshot(Collections.unmodifiableMap(values));
+	}
+
+	/**
+	 * 取得属性值, 不存在时返回Null.
+	 */
+	public Value get(String key) {
+		return values.get(key);
+	}
+
+	public boolean contains(String key) {
+		return values.containsKey(key);
+	}
+
+	/**
+	 * 取得字符串值, 不存在时返回Null.
+	 */
+	public String getString(String key) {
+		Value value = values.get(key);
+		return value != null ? value.raw : null;
+	}
+
+	/**
+	 * 取得字符串值, 不存在时返回Default值.
+	 */
+	public String getString(String key, String defaultValue) {
+		Value value = values.get(key);
+		return value != null ? value.raw : defaultValue;
+	}
+
+	/**
+	 * 取得Integer值, 不存在时返回Default值, 内容错误时抛出NumberFormatException.
+	 */
+	public Integer getInteger(String key, Integer defaultValue) {
+		Value value = values.get(key);
+		return value != null ? value.getInteger() : defaultValue;
+	}
+
+	/**
+	 * 取得int值, 不存在或内容错误时返回Default值.
+	 */
+	public int getInt(String key, int defaultValue) {
+		Value value = values.get(key);
+		return value != null && value.integer != null ? value.integer.intValue() : defaultValue;
+	}
+
+	/**
+	 * 取得long值, 不存在或内容错误时返回Default值.
+	 */
+	public long getLong(String key, long defaultValue) {
+		Value value = values.get(key);
+		return value != null && value.longValue != null ? value.longValue.longValue() : defaultValue;
+	}
+
+	/**
+	 * 取得Double值, 不存在时返回Default值, 内容错误时抛出NumberFormatException.
+	 */
+	public Double getDouble(String key, Double defaultValue) {
+		Value value = values.get(key);
+		return value != null ? value.getDouble() : defaultValue;
+	}
+
+	/**
+	 * 取得Boolean值, 不存在时返回Default值, 内容不是true时返回false.
+	 */
+	public boolean getBoolean(String key, boolean defaultValue) {
+		Value value = values.get(key);
+		return value != null ? value.bool : defaultValue;
+	}
+
+	/**
+	 * 全部属性名.
+	 */
+	public Set<String> keys() {
+		return values.keySet();
+	}
+
+	/**
+	 * 与另一个快照相比, 新增、删除或值不同的属性名.
+	 */
+	public Set<String> diff(ConfigSnapshot other) {
+		Set<String> changed = new HashSet<String>();
+		for (Map.Entry<String, Value> entry : values.entrySet()) {
+			Value value = other.values.get(entry.getKey());
+			if (value == null || !value.raw.equals(entry.getValue().raw)) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String key : other.values.keySet()) {
+			if (!values.containsKey(key)) {
+				changed.add(key);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * 单个属性值, 创建时解析为各种类型, 解析失败的类型为Null.
+	 */
+	public static final class Value {
+
+		/**
+		 * 空字符串, 用于需要保持"取不到返回空字符串"语义的调用方
+		 */
+		public static final Value EMPTY = new Value("");
+
+		private final String raw;
+
+		private final Integer integer;
+
+		private final Long longValue;
+
+		private final Double doubleValue;
+
+		private final boolean bool;
+
+		Value(String raw) {
+			this.raw = raw;
+			this.integer = parseInteger(raw);
+			this.longValue = parseLong(raw);
+			this.doubleValue = parseDouble(raw);
+			this.bool = Boolean.parseBoolean(raw);
+		}
+
+		public String getString() {
+			return raw;
+		}
+
+		/**
+		 * 内容错误时抛出与Integer.valueOf相同的NumberFormatException.
+		 */
+		public Integer getInteger() {
+			return integer != null ? integer : Integer.valueOf(raw);
+		}
+
+		/**
+		 * 内容错误时抛出与Long.valueOf相同的NumberFormatException.
+		 */
+		public Long getLong() {
+			return longValue != null ? longValue : Long.valueOf(raw);
+		}
+
+		/**
+		 * 内容错误时抛出与Double.valueOf相同的NumberFormatException.
+		 */
+		public Double getDouble() {
+			return doubleValue != null ? doubleValue : Double.valueOf(raw);
+		}
+
+		/**
+		 * 与Boolean.valueOf相同, 内容不是true(忽略大小写)时返回false.
+		 */
+		public boolean getBoolean() {
+			return bool;
+		}
+
+		@Override
+		public String toString() {
+			return raw;
+		}
+
+		private static Integer parseInteger(String raw) {
+			try {
+				return Integer.valueOf(raw);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private static Long parseLong(String raw) {
+			try {
+				return Long.valueOf(raw);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+
+		private static Double parseDouble(String raw) {
+			try {
+				return Double.valueOf(raw);
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+	}
+}
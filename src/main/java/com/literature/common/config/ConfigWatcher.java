@@ -0,0 +1,29 @@
+package com.literature.common.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.literature.common.utils.Global;
+
+/**
+ * 随Spring容器启动/关闭全局配置文件的监视线程.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@Component
+@Lazy(false)
+public class ConfigWatcher implements InitializingBean, DisposableBean {
+
+	@Override
+	public void afterPropertiesSet() {
+		Global.getReloadableConfig().startWatching();
+	}
+
+	@Override
+	public void destroy() {
+		Global.getReloadableConfig().stopWatching();
+	}
+}
@@ -0,0 +1,58 @@
+package com.literature.common.config;
+
+/**
+ * hibernate.*配置, 由配置快照绑定生成, 字段不可变.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class HibernateConfig {
+
+	private final String dialect;
+
+	private final boolean showSql;
+
+	private final boolean formatSql;
+
+	/**
+	 * 收集Statistics, 由/metrics输出
+	 */
+	private final boolean generateStatistics;
+
+	/**
+	 * create,update,create-drop,validate
+	 */
+	private final String hbm2ddlAuto;
+
+	private HibernateConfig(ConfigSnapshot snapshot) {
+		this.dialect = snapshot.getString("hibernate.dialect", "");
+		this.showSql = snapshot.getBoolean("hibernate.show_sql", false);
+		this.formatSql = snapshot.getBoolean("hibernate.format_sql", false);
+		this.generateStatistics = snapshot.getBoolean("hibernate.generate_statistics", false);
+		this.hbm2ddlAuto = snapshot.getString("hibernate.hbm2ddl.auto", "");
+	}
+
+	public static HibernateConfig of(ConfigSnapshot snapshot) {
+		return new HibernateConfig(snapshot);
+	}
+
+	public String getDialect() {
+		return dialect;
+	}
+
+	public boolean isShowSql() {
+		return showSql;
+	}
+
+	public boolean isFormatSql() {
+		return formatSql;
+	}
+
+	public boolean isGenerateStatistics() {
+		return generateStatistics;
+	}
+
+	public String getHbm2ddlAuto() {
+		return hbm2ddlAuto;
+	}
+}
@@ -0,0 +1,58 @@
+package com.literature.common.config;
+
+/**
+ * jdbc.*与jdbc.pool.*配置, 由配置快照绑定生成, 字段不可变.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class JdbcPoolConfig {
+
+	private final String driver;
+
+	private final String url;
+
+	private final String username;
+
+	/**
+	 * 初始化连接数
+	 */
+	private final int maxIdle;
+
+	/**
+	 * 最大连接数
+	 */
+	private final int maxActive;
+
+	private JdbcPoolConfig(ConfigSnapshot snapshot) {
+		this.driver = snapshot.getString("jdbc.driver", "");
+		this.url = snapshot.getString("jdbc.url", "");
+		this.username = snapshot.getString("jdbc.username", "");
+		this.maxIdle = snapshot.getInt("jdbc.pool.maxIdle", 5);
+		this.maxActive = snapshot.getInt("jdbc.pool.maxActive", 40);
+	}
+
+	public static JdbcPoolConfig of(ConfigSnapshot snapshot) {
+		return new JdbcPoolConfig(snapshot);
+	}
+
+	public String getDriver() {
+		return driver;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	public int getMaxActive() {
+		return maxActive;
+	}
+}
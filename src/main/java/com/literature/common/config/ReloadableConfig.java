@@ -0,0 +1,213 @@
+package com.literature.common.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.poi.util.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import com.literature.common.utils.PropertiesLoader;
+
+/**
+ * 可热加载的配置, 对外发布不可变的ConfigSnapshot.
+ * 读取方通过current()取得当前快照, 不加锁; 重新加载时生成新的快照后整体替换, 读取方不会看到加载到一半的配置.
+ *
+ * 调用startWatching()后使用WatchService监视属性文件所在目录, 文件修改后自动重新加载并通知ConfigChangeListener.
+ * 打包在jar中等无法对应到文件的配置不监视, 只能调用reload()重新加载.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class ReloadableConfig {
+
+	private static Logger logger = LoggerFactory.getLogger(ReloadableConfig.class);
+
+	private static ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+	/**
+	 * 编辑器保存文件时可能连续产生多个事件, 等待片刻后合并为一次加载
+	 */
+	private static final long SETTLE_MILLIS = 200;
+
+	private final String[] resourcesPaths;
+
+	private final List<ConfigChangeListener> listeners = new CopyOnWriteArrayList<ConfigChangeListener>();
+
+	private volatile ConfigSnapshot snapshot;
+
+	private WatchService watchService;
+
+	private Thread watchThread;
+
+	public ReloadableConfig(String... resourcesPaths) {
+		this.resourcesPaths = resourcesPaths;
+		this.snapshot = load();
+	}
+
+	/**
+	 * 取得当前配置快照.
+	 */
+	public ConfigSnapshot current() {
+		return snapshot;
+	}
+
+	public void addListener(ConfigChangeListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(ConfigChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * 重新加载配置, 有属性变化时替换快照并通知监听器.
+	 *
+	 * @return 变化的属性名.
+	 */
+	public synchronized Set<String> reload() {
+		ConfigSnapshot previous = snapshot;
+		ConfigSnapshot current = load();
+		Set<String> changedKeys = current.diff(previous);
+		if (changedKeys.isEmpty()) {
+			return changedKeys;
+		}
+		snapshot = current;
+		logger.info("configuration reloaded, changed keys: {}", changedKeys);
+		for (ConfigChangeListener listener : listeners) {
+			try {
+				listener.onChange(previous, current, changedKeys);
+			} catch (RuntimeException e) {
+				logger.warn("config change listener failed: " + listener, e);
+			}
+		}
+		return changedKeys;
+	}
+
+	/**
+	 * 开始监视属性文件, 重复调用无效.
+	 */
+	public synchronized void startWatching() {
+		if (watchThread != null) {
+			return;
+		}
+		final Set<Path> files = new HashSet<Path>();
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			Set<Path> dirs = new HashSet<Path>();
+			for (String location : resourcesPaths) {
+				Path file = resolveFile(location);
+				if (file != null && dirs.add(file.getParent())) {
+					file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY,
+							StandardWatchEventKinds.ENTRY_CREATE);
+				}
+				if (file != null) {
+					files.add(file);
+				}
+			}
+		} catch (IOException e) {
+			logger.warn("Could not watch configuration files: " + e.getMessage());
+			IOUtils.closeQuietly(watchService);
+			watchService = null;
+			return;
+		}
+		if (files.isEmpty()) {
+			IOUtils.closeQuietly(watchService);
+			watchService = null;
+			return;
+		}
+		final WatchService service = watchService;
+		watchThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				watch(service, files);
+			}
+		}, "config-watcher");
+		watchThread.setDaemon(true);
+		watchThread.start();
+		logger.info("watching configuration files: {}", files);
+	}
+
+	/**
+	 * 停止监视, 应用关闭时调用, 避免重新部署后监视线程仍持有旧的ClassLoader.
+	 */
+	public synchronized void stopWatching() {
+		if (watchThread == null) {
+			return;
+		}
+		IOUtils.closeQuietly(watchService);
+		watchThread.interrupt();
+		watchService = null;
+		watchThread = null;
+	}
+
+	private void watch(WatchService service, Set<Path> files) {
+		try {
+			while (true) {
+				WatchKey key = service.take();
+				boolean changed = false;
+				Path dir = (Path) key.watchable();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						changed = true;
+					} else if (files.contains(dir.resolve((Path) event.context()))) {
+						changed = true;
+					}
+				}
+				key.reset();
+				if (changed) {
+					Thread.sleep(SETTLE_MILLIS);
+					drain(service);
+					reload();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			// stopWatching()关闭了WatchService
+		}
+	}
+
+	/**
+	 * 丢弃等待期间累积的事件, 随后的一次加载已包含这些修改.
+	 */
+	private void drain(WatchService service) {
+		WatchKey key;
+		while ((key = service.poll()) != null) {
+			key.pollEvents();
+			key.reset();
+		}
+	}
+
+	private ConfigSnapshot load() {
+		return new PropertiesLoader(resourcesPaths).getSnapshot();
+	}
+
+	private static Path resolveFile(String location) {
+		try {
+			Resource resource = resourceLoader.getResource(location);
+			if (!resource.exists()) {
+				return null;
+			}
+			File file = resource.getFile();
+			return file.toPath().toAbsolutePath();
+		} catch (IOException e) {
+			logger.debug("{} is not a file, skip watching", location);
+			return null;
+		}
+	}
+}
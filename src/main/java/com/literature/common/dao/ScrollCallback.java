@@ -0,0 +1,19 @@
+package com.literature.common.dao;
+
+/**
+ * 游标遍历的回调接口, 见SimpleHibernateDao.scrollAll().
+ * @param <T> 遍历的对象类型
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public interface ScrollCallback<T> {
+
+	/**
+	 * 处理一条记录.
+	 * 
+	 * @param entity 当前记录, 所在批次结束后即从Session中清除, 不要在回调外保留引用.
+	 * @return 是否继续遍历, 返回false时立即关闭游标.
+	 */
+	boolean process(T entity);
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.Criteria;
 import org.hibernate.Query;
@@ -13,6 +14,10 @@ import org.hibernate.criterion.Criterion;
 
 /**
  * Hibernate基础接口
+ * save/update/delete/batchExecute在提交后递增实体类型的数据版本号(见DataVersions), ResponseCache据此失效.
+ * 以下写操作不递增版本号, 相关的ResponseCache条目会一直返回旧数据, 需自行调用DataVersions.bump():
+ * 级联保存/删除的关联实体(只递增本DAO的实体类型)、createQuery()/createSQLQuery()执行的executeUpdate()、
+ * 直接使用Session的写操作.
  * @author Literature
  * @date 2018年10月25日
  *
@@ -47,6 +52,18 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	 */
 	void save(T entity);
 
+	/**
+	 * 按JSON merge-patch(RFC 7396)修改对象, 只修改JSON中出现且值确有变化的属性.
+	 * 实体标注@DynamicUpdate时, UPDATE语句只包含变化的列; 没有变化时不执行UPDATE.
+	 * 主键、关联属性与未映射的属性会被忽略.
+	 * 
+	 * @param id
+	 * @param mergePatch
+	 *            JSON对象, 属性值为null表示将该属性置为null
+	 * @return 值有变化的属性名
+	 */
+	Set<String> patch(PK id, String mergePatch);
+
 	/**
 	 * 删除对象.
 	 * 
@@ -116,6 +133,19 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	 */
 	List<T> findAll(String orderByProperty, boolean isAsc);
 
+	/**
+	 * 按主键顺序以只读游标逐条遍历全部对象, 每batchSize条清空一次Session, 内存占用与记录总数无关.
+	 * 用于导出、流式输出等需要读取全部记录的场景, 需在事务内调用.
+	 * MySQL驱动默认一次读入整个结果集, 忽略fetchSize, 需在jdbc.url中加上useCursorFetch=true才会按批从服务端游标读取.
+	 * 
+	 * @param batchSize
+	 *            JDBC每次抓取的记录数, 也是清空Session的间隔
+	 * @param callback
+	 *            逐条处理记录, 返回false时停止遍历
+	 * @return 已处理的记录数
+	 */
+	int scrollAll(int batchSize, ScrollCallback<T> callback);
+
 	/**
 	 * 按属性查找对象列表, 匹配方式为相等
 	 * 
@@ -187,7 +217,8 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	<X> X findUnique(String hql, Map<String, ?> values);
 
 	/**
-	 * 执行HQL进行批量修改/删除操作.
+	 * 执行HQL进行批量修改/删除操作, 提交后递增本DAO实体类型的数据版本号.
+	 * HQL修改了其他实体类型时使用batchExecute(Class[], String, Object...).
 	 * 
 	 * @param hql
 	 * @param values
@@ -197,7 +228,7 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	int batchExecute(String hql, Object... values);
 
 	/**
-	 * 执行HQL进行批量修改/删除操作.
+	 * 执行HQL进行批量修改/删除操作, 提交后递增本DAO实体类型的数据版本号.
 	 * 
 	 * @param hql
 	 * @param values
@@ -206,6 +237,31 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	 */
 	int batchExecute(String hql, Map<String, ?> values);
 
+	/**
+	 * 执行HQL进行批量修改/删除操作, 提交后递增affectedClasses的数据版本号.
+	 * affectedClasses放在首位, 避免没有参数时与batchExecute(String, Object...)混淆.
+	 * 
+	 * @param affectedClasses
+	 *            HQL修改/删除的实体类型.
+	 * @param hql
+	 * @param values
+	 *            数量可变的参数,按顺序绑定.
+	 * @return 更新记录数.
+	 */
+	int batchExecute(Class<?>[] affectedClasses, String hql, Object... values);
+
+	/**
+	 * 执行HQL进行批量修改/删除操作, 提交后递增affectedClasses的数据版本号.
+	 * 
+	 * @param affectedClasses
+	 *            HQL修改/删除的实体类型.
+	 * @param hql
+	 * @param values
+	 *            命名参数,按名称绑定.
+	 * @return 更新记录数.
+	 */
+	int batchExecute(Class<?>[] affectedClasses, String hql, Map<String, ?> values);
+
 	/**
 	 * 
 	 * 与find()函数可进行更加灵活的操作.
@@ -216,6 +272,7 @@ public interface SimpleHibernateDao<T, PK extends Serializable> {
 	 */
 	/**
 	 * 根据查询HQL与参数列表创建Query对象.
+	 * 通过返回的Query执行executeUpdate()不会递增数据版本号, 修改数据请使用batchExecute().
 	 * 
 	 * @param queryString
 	 * @param values
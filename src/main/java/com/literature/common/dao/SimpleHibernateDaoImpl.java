@@ -1,33 +1,49 @@
 package com.literature.common.dao;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.CacheMode;
 import org.hibernate.Criteria;
 import org.hibernate.Hibernate;
+import org.hibernate.ObjectNotFoundException;
 import org.hibernate.Query;
 import org.hibernate.SQLQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.criterion.CriteriaSpecification;
 import org.hibernate.criterion.Criterion;
 import org.hibernate.criterion.Order;
 import org.hibernate.criterion.Restrictions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metadata.ClassMetadata;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.literature.common.cache.DataVersions;
+import com.literature.common.mapper.JsonMapper;
 import com.literature.common.utils.Reflections;
 
 /**
  * 封装Hibernate原生API的DAO泛型基类.<br>
  * 可在Service层直接使用, 也可以扩展泛型DAO子类使用, 见两个构造函数的注释. 取消了HibernateTemplate,
  * 直接使用Hibernate原生API.
+ * 写操作会递增实体类型的数据版本号, 见DataVersions; 不递增版本号的写操作见SimpleHibernateDao的说明.
  * @param <T> DAO操作的对象类型
  * @param <PK> 主键类型
  * @author Literature
@@ -74,6 +90,7 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	@Override
 	public void update(final T entity) {
 		getSession().update(entity);
+		DataVersions.bump(entityClass);
 	}
 	
 	/* (non-Javadoc)
@@ -83,6 +100,7 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	@Transactional(readOnly = false)
 	public void saveOrUpdate(final T entity) {
 		getSession().saveOrUpdate(entity);
+		DataVersions.bump(entityClass);
 	}
 
 	/* (non-Javadoc)
@@ -91,6 +109,68 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	@Override
 	public void save(final T entity) {
 		getSession().save(entity);
+		DataVersions.bump(entityClass);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.literature.common.dao.SimpleHibernateDao#patch(java.io.Serializable, java.lang.String)
+	 */
+	@Override
+	public Set<String> patch(final PK id, final String mergePatch) {
+		ObjectMapper mapper = JsonMapper.nonEmptyMapper().getMapper();
+		JsonNode patch;
+		try {
+			patch = mapper.readTree(mergePatch);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not parse merge patch:" + mergePatch, e);
+		}
+		if (patch == null || !patch.isObject()) {
+			throw new IllegalArgumentException("Merge patch must be a JSON object:" + mergePatch);
+		}
+		T entity = get(id);
+		if (entity == null) {
+			throw new ObjectNotFoundException(id, entityClass.getName());
+		}
+
+		EntityPersister meta = sessionFactory.unwrap(SessionFactoryImplementor.class).getMetamodel()
+				.entityPersister(entityClass);
+		String[] propertyNames = meta.getPropertyNames();
+		Type[] propertyTypes = meta.getPropertyTypes();
+		Set<String> changed = new LinkedHashSet<String>();
+		for (Iterator<Map.Entry<String, JsonNode>> it = patch.fields(); it.hasNext();) {
+			Map.Entry<String, JsonNode> field = it.next();
+			int index = indexOf(propertyNames, field.getKey());
+			if (index < 0 || propertyTypes[index].isAssociationType()) {
+				logger.warn("patch ignored property {} of {}", field.getKey(), entityClass.getSimpleName());
+				continue;
+			}
+			Type type = propertyTypes[index];
+			Object newValue;
+			try {
+				newValue = field.getValue().isNull() ? null : mapper.treeToValue(field.getValue(), type.getReturnedClass());
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Could not convert property " + field.getKey() + ":" + field.getValue(), e);
+			}
+			Object oldValue = meta.getPropertyValue(entity, propertyNames[index]);
+			if (!type.isEqual(oldValue, newValue)) {
+				meta.setPropertyValue(entity, index, newValue);
+				changed.add(propertyNames[index]);
+			}
+		}
+		// 由Hibernate在flush时做脏检查, 没有变化的对象不会产生UPDATE
+		if (!changed.isEmpty()) {
+			DataVersions.bump(entityClass);
+		}
+		return changed;
+	}
+
+	private static int indexOf(String[] names, String name) {
+		for (int i = 0; i < names.length; i++) {
+			if (names[i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
 	}
 
 	/* (non-Javadoc)
@@ -99,6 +179,7 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	@Override
 	public void delete(final T entity) {
 		getSession().delete(entity);
+		DataVersions.bump(entityClass);
 	}
 	
 	/* (non-Javadoc)
@@ -166,6 +247,32 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 		return c.list();
 	}
 
+	/* (non-Javadoc)
+	 * @see com.literature.common.dao.SimpleHibernateDao#scrollAll(int, com.literature.common.dao.ScrollCallback)
+	 */
+	@Override
+	public int scrollAll(final int batchSize, final ScrollCallback<T> callback) {
+		Assert.isTrue(batchSize > 0, "batchSize必须大于0");
+		Session session = getSession();
+		ScrollableResults results = createCriteria().addOrder(Order.asc(getIdName())).setReadOnly(true)
+				.setFetchSize(batchSize).setCacheMode(CacheMode.IGNORE).scroll(ScrollMode.FORWARD_ONLY);
+		int count = 0;
+		try {
+			while (results.next()) {
+				count++;
+				if (!callback.process((T) results.get(0))) {
+					break;
+				}
+				if (count % batchSize == 0) {
+					session.clear();
+				}
+			}
+		} finally {
+			results.close();
+		}
+		return count;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.literature.common.dao.SimpleHibernateDao1#findBy(java.lang.String, java.lang.Object)
 	 */
@@ -229,7 +336,7 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	 */
 	@Override
 	public int batchExecute(final String hql, final Object... values) {
-		return createQuery(hql, values).executeUpdate();
+		return batchExecute(new Class<?>[] { entityClass }, hql, values);
 	}
 
 	/* (non-Javadoc)
@@ -237,7 +344,27 @@ public class SimpleHibernateDaoImpl<T, PK extends Serializable> implements Simpl
 	 */
 	@Override
 	public int batchExecute(final String hql, final Map<String, ?> values) {
-		return createQuery(hql, values).executeUpdate();
+		return batchExecute(new Class<?>[] { entityClass }, hql, values);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.literature.common.dao.SimpleHibernateDao#batchExecute(java.lang.Class[], java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public int batchExecute(final Class<?>[] affectedClasses, final String hql, final Object... values) {
+		int count = createQuery(hql, values).executeUpdate();
+		DataVersions.bump(affectedClasses);
+		return count;
+	}
+
+	/* (non-Javadoc)
+	 * @see com.literature.common.dao.SimpleHibernateDao#batchExecute(java.lang.Class[], java.lang.String, java.util.Map)
+	 */
+	@Override
+	public int batchExecute(final Class<?>[] affectedClasses, final String hql, final Map<String, ?> values) {
+		int count = createQuery(hql, values).executeUpdate();
+		DataVersions.bump(affectedClasses);
+		return count;
 	}
 
 	/**
@@ -0,0 +1,105 @@
+package com.literature.common.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 有界的多生产者、单消费者环形队列(Dmitry Vyukov的bounded queue), 不加锁.
+ *
+ * 每个槽位有一个序号: 等于位置时可写, 等于位置+1时可读. 生产者以CAS占用tail位置后写入元素,
+ * 再以lazySet发布序号; 消费者看到序号后读取元素, 并把序号推进一圈, 表示该槽位可再次写入.
+ * 队列满时offer立即返回false, 不等待.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class MpscRingBuffer<E> {
+
+	private final int mask;
+
+	private final Object[] elements;
+
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * 只由消费者线程读写
+	 */
+	private long head;
+
+	/**
+	 * @param capacity 容量, 向上取整为2的幂.
+	 */
+	public MpscRingBuffer(int capacity) {
+		if (capacity < 2) {
+			throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+		}
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		this.mask = size - 1;
+		this.elements = new Object[size];
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * 放入元素, 可由任意线程调用.
+	 *
+	 * @return 队列已满时返回false.
+	 */
+	public boolean offer(E element) {
+		if (element == null) {
+			throw new NullPointerException();
+		}
+		long position = tail.get();
+		for (;;) {
+			int index = (int) position & mask;
+			long diff = sequences.get(index) - position;
+			if (diff == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements[index] = element;
+					sequences.lazySet(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (diff < 0) {
+				// 槽位还没有被消费者释放, 队列已满
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	/**
+	 * 取出元素, 只能由消费者线程调用.
+	 *
+	 * @return 队列为空(或下一个元素尚未写完)时返回Null.
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		int index = (int) head & mask;
+		if (sequences.get(index) != head + 1) {
+			return null;
+		}
+		E element = (E) elements[index];
+		elements[index] = null;
+		sequences.lazySet(index, head + mask + 1);
+		head++;
+		return element;
+	}
+
+	/**
+	 * 近似的元素个数.
+	 */
+	public int size() {
+		long size = tail.get() - head;
+		return (int) Math.max(0, Math.min(size, capacity()));
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+}
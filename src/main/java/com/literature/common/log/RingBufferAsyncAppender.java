@@ -0,0 +1,270 @@
+package com.literature.common.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.ConsoleAppender;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.Filter;
+import org.apache.log4j.spi.LoggingEvent;
+
+import com.literature.common.metrics.MetricsRegistry;
+
+/**
+ * 异步输出到控制台的log4j Appender: 记录日志的线程只把事件放入MpscRingBuffer, 由一个后台线程批量写出,
+ * 每批只flush一次, 业务线程不再在控制台的锁与I/O上排队.
+ *
+ * 队列满时丢弃新事件并按级别计数, 后台线程追上后输出一条WARN汇总丢弃的条数, 不阻塞业务线程.
+ * 丢弃的条数同时由/metrics输出为log_events_dropped_total.
+ *
+ * 配置项(log4j.properties):
+ * <pre>
+ * log4j.appender.stdout=com.literature.common.log.RingBufferAsyncAppender
+ * log4j.appender.stdout.Target=System.out
+ * log4j.appender.stdout.BufferSize=8192
+ * log4j.appender.stdout.LocationInfo=false
+ * log4j.appender.stdout.layout=org.apache.log4j.PatternLayout
+ * </pre>
+ * LocationInfo为true时在记录日志的线程上取得行号(%L、%M等), 需要生成调用栈, 开销较大.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class RingBufferAsyncAppender extends AppenderSkeleton {
+
+	/**
+	 * 后台线程空闲时的最长等待时间, 生产者与消费者的唤醒有竞争时, 最多延迟这么久输出
+	 */
+	private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+	private static final LongAdder droppedTotal = new LongAdder();
+
+	static {
+		MetricsRegistry.getDefault().register("log_events_dropped_total",
+				out -> out.family("log_events_dropped_total", "Log events dropped because the ring buffer was full",
+						"counter").sample("log_events_dropped_total", droppedTotal.sum()));
+	}
+
+	private String target = ConsoleAppender.SYSTEM_OUT;
+
+	private int bufferSize = 8192;
+
+	private boolean locationInfo;
+
+	private MpscRingBuffer<LoggingEvent> buffer;
+
+	private FlushableConsoleAppender delegate;
+
+	/**
+	 * 输出丢弃汇总时使用, 在activateOptions中取得; 关闭时log4j持有Hierarchy的锁, 后台线程不能再调用Logger.getLogger
+	 */
+	private Logger logger;
+
+	private Thread worker;
+
+	private Thread shutdownHook;
+
+	private volatile boolean sleeping;
+
+	private volatile boolean stopped;
+
+	/**
+	 * 按级别统计队列满时丢弃的事件数, 由后台线程汇总后清零
+	 */
+	private final LongAdder droppedFatalOrError = new LongAdder();
+
+	private final LongAdder droppedWarn = new LongAdder();
+
+	private final LongAdder droppedOther = new LongAdder();
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+
+	public String getTarget() {
+		return target;
+	}
+
+	public void setBufferSize(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	public void setLocationInfo(boolean locationInfo) {
+		this.locationInfo = locationInfo;
+	}
+
+	public boolean getLocationInfo() {
+		return locationInfo;
+	}
+
+	@Override
+	public void activateOptions() {
+		buffer = new MpscRingBuffer<LoggingEvent>(bufferSize);
+		delegate = new FlushableConsoleAppender();
+		delegate.setName(name + "-console");
+		delegate.setTarget(target);
+		delegate.setLayout(layout);
+		delegate.setImmediateFlush(false);
+		delegate.activateOptions();
+		logger = Logger.getLogger(RingBufferAsyncAppender.class);
+
+		worker = new Thread(this::drainLoop, "log4j-async-" + name);
+		worker.setDaemon(true);
+		worker.start();
+		// 进程退出时输出队列中剩余的日志; 正常关闭(Log4jConfigListener)时由close处理并移除
+		shutdownHook = new Thread(this::stop, "log4j-async-" + name + "-shutdown");
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	/**
+	 * 不使用父类的synchronized doAppend, 多个线程同时记录日志时不在Appender上排队.
+	 */
+	@Override
+	public void doAppend(LoggingEvent event) {
+		if (closed || buffer == null || !isAsSevereAsThreshold(event.getLevel())) {
+			return;
+		}
+		for (Filter f = headFilter; f != null; f = f.getNext()) {
+			int decision = f.decide(event);
+			if (decision == Filter.DENY) {
+				return;
+			} else if (decision == Filter.ACCEPT) {
+				break;
+			}
+		}
+		append(event);
+	}
+
+	@Override
+	protected void append(LoggingEvent event) {
+		// 在当前线程上取得依赖线程状态或调用方的内容, 后台线程输出时这些状态已经不存在
+		event.getNDC();
+		event.getThreadName();
+		event.getMDCCopy();
+		if (locationInfo) {
+			event.getLocationInformation();
+		}
+		event.getRenderedMessage();
+		event.getThrowableStrRep();
+		if (buffer.offer(event)) {
+			if (sleeping) {
+				LockSupport.unpark(worker);
+			}
+		} else {
+			drop(event.getLevel());
+		}
+	}
+
+	private void drop(Level level) {
+		droppedTotal.increment();
+		if (level.isGreaterOrEqual(Level.ERROR)) {
+			droppedFatalOrError.increment();
+		} else if (level.isGreaterOrEqual(Level.WARN)) {
+			droppedWarn.increment();
+		} else {
+			droppedOther.increment();
+		}
+	}
+
+	private void drainLoop() {
+		for (;;) {
+			// 每批最多一个队列容量, 持续满载时也能按时输出丢弃汇总
+			int written = 0;
+			LoggingEvent event;
+			while (written < buffer.capacity() && (event = buffer.poll()) != null) {
+				delegate.doAppend(event);
+				written++;
+			}
+			reportDropped();
+			if (written > 0) {
+				delegate.flush();
+				continue;
+			}
+			if (stopped) {
+				return;
+			}
+			sleeping = true;
+			if (buffer.size() == 0 && !stopped) {
+				LockSupport.parkNanos(this, MAX_PARK_NANOS);
+			}
+			sleeping = false;
+		}
+	}
+
+	/**
+	 * 队列有空位后输出一条汇总, 说明丢弃了多少条日志.
+	 */
+	private void reportDropped() {
+		long errors = droppedFatalOrError.sumThenReset();
+		long warns = droppedWarn.sumThenReset();
+		long others = droppedOther.sumThenReset();
+		if (errors + warns + others == 0) {
+			return;
+		}
+		String message = "Log buffer full, dropped " + (errors + warns + others) + " events (ERROR/FATAL=" + errors
+				+ ", WARN=" + warns + ", other=" + others + ")";
+		delegate.doAppend(new LoggingEvent(RingBufferAsyncAppender.class.getName(), logger, Level.WARN, message, null));
+	}
+
+	/**
+	 * 停止后台线程, 等待队列中的日志输出完毕.
+	 */
+	private void stop() {
+		stopped = true;
+		Thread thread = worker;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			try {
+				thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (delegate != null) {
+			delegate.flush();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		stop();
+		if (shutdownHook != null) {
+			try {
+				Runtime.getRuntime().removeShutdownHook(shutdownHook);
+			} catch (IllegalStateException e) {
+				// 已在关闭过程中
+			}
+		}
+		if (delegate != null) {
+			delegate.close();
+		}
+	}
+
+	@Override
+	public boolean requiresLayout() {
+		return true;
+	}
+
+	/**
+	 * 关闭immediateFlush, 由后台线程每批输出后flush一次.
+	 */
+	private static final class FlushableConsoleAppender extends ConsoleAppender {
+
+		void flush() {
+			if (qw != null) {
+				qw.flush();
+			}
+		}
+	}
+}
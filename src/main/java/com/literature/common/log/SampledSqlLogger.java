@@ -0,0 +1,252 @@
+package com.literature.common.log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.log4j.Logger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import com.literature.common.config.ConfigChangeListener;
+import com.literature.common.config.ConfigSnapshot;
+import com.literature.common.utils.Global;
+
+/**
+ * 替代hibernate.show_sql的SQL日志: 按比例抽样输出单条语句, 并按语句形状(字面量替换为?, IN列表合并)汇总执行次数,
+ * 每隔一段时间输出一次执行最多的语句.
+ *
+ * 通过hibernate.session_factory.statement_inspector注册, 不修改SQL. 配置项可在运行时修改, 不需要重启:
+ * sql.log.sampleRate 单条输出的比例, 0关闭, 1全部输出;
+ * sql.log.summaryInterval 汇总间隔(秒), 0关闭; 汇总在间隔到期后的下一条语句上输出.
+ *
+ * 日志分类为sql(抽样)与sql.summary(汇总), 可在log4j.properties中单独设置级别.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class SampledSqlLogger implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final String SAMPLE_RATE_KEY = "sql.log.sampleRate";
+
+	private static final String SUMMARY_INTERVAL_KEY = "sql.log.summaryInterval";
+
+	/**
+	 * 一个汇总周期内最多记录的不同语句数, 超出的计入OTHER
+	 */
+	private static final int MAX_STATEMENTS = 2000;
+
+	/**
+	 * 每次汇总输出的语句形状数
+	 */
+	private static final int SUMMARY_TOP = 20;
+
+	private static final String OTHER = "(other statements)";
+
+	private static final Logger sampleLogger = Logger.getLogger("sql");
+
+	private static final Logger summaryLogger = Logger.getLogger("sql.summary");
+
+	private static volatile double sampleRate;
+
+	private static volatile long summaryIntervalNanos;
+
+	private static final AtomicLong lastSummary = new AtomicLong(System.nanoTime());
+
+	/**
+	 * 当前周期内各语句的执行次数, 以Hibernate生成的SQL原文为键(通常是同一个String对象, hashCode已缓存),
+	 * 汇总时才计算语句形状
+	 */
+	private static final AtomicReference<ConcurrentHashMap<String, LongAdder>> counts = new AtomicReference<>(
+			new ConcurrentHashMap<String, LongAdder>());
+
+	static {
+		configure(Global.getSnapshot());
+		Global.addConfigListener(new ConfigChangeListener() {
+			@Override
+			public void onChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+				if (changedKeys.contains(SAMPLE_RATE_KEY) || changedKeys.contains(SUMMARY_INTERVAL_KEY)) {
+					configure(current);
+				}
+			}
+		});
+	}
+
+	private static void configure(ConfigSnapshot snapshot) {
+		setSampleRate(snapshot.getDouble(SAMPLE_RATE_KEY, 0d));
+		setSummaryInterval(snapshot.getLong(SUMMARY_INTERVAL_KEY, 0), TimeUnit.SECONDS);
+	}
+
+	/**
+	 * 修改抽样比例, 0到1之间.
+	 */
+	public static void setSampleRate(double rate) {
+		sampleRate = Math.max(0, Math.min(1, rate));
+		summaryLogger.info("SQL sample rate " + sampleRate);
+	}
+
+	/**
+	 * 修改汇总间隔, 0关闭汇总.
+	 */
+	public static void setSummaryInterval(long interval, TimeUnit unit) {
+		summaryIntervalNanos = unit.toNanos(Math.max(0, interval));
+	}
+
+	@Override
+	public String inspect(String sql) {
+		double rate = sampleRate;
+		if (rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate)) {
+			sampleLogger.info(sql);
+		}
+		long interval = summaryIntervalNanos;
+		if (interval > 0) {
+			count(sql);
+			long now = System.nanoTime();
+			long last = lastSummary.get();
+			if (now - last >= interval && lastSummary.compareAndSet(last, now)) {
+				summarize(now - last);
+			}
+		}
+		return sql;
+	}
+
+	private static void count(String sql) {
+		ConcurrentHashMap<String, LongAdder> current = counts.get();
+		LongAdder count = current.get(sql);
+		if (count == null) {
+			String key = current.size() < MAX_STATEMENTS ? sql : OTHER;
+			count = current.computeIfAbsent(key, k -> new LongAdder());
+		}
+		count.increment();
+	}
+
+	/**
+	 * 换下当前周期的计数, 按语句形状合并后输出执行次数最多的语句.
+	 */
+	private static void summarize(long elapsedNanos) {
+		Map<String, LongAdder> previous = counts.getAndSet(new ConcurrentHashMap<String, LongAdder>());
+		Map<String, long[]> shapes = new HashMap<>();
+		long total = 0;
+		for (Map.Entry<String, LongAdder> entry : previous.entrySet()) {
+			long count = entry.getValue().sum();
+			total += count;
+			String shape = OTHER.equals(entry.getKey()) ? OTHER : shape(entry.getKey());
+			long[] sum = shapes.get(shape);
+			if (sum == null) {
+				shapes.put(shape, new long[] { count });
+			} else {
+				sum[0] += count;
+			}
+		}
+		if (total == 0 || !summaryLogger.isInfoEnabled()) {
+			return;
+		}
+		List<Map.Entry<String, long[]>> sorted = new ArrayList<>(shapes.entrySet());
+		Collections.sort(sorted, (a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+		StringBuilder message = new StringBuilder(256);
+		message.append(total).append(" statements, ").append(shapes.size()).append(" shapes in ")
+				.append(TimeUnit.NANOSECONDS.toSeconds(elapsedNanos)).append("s");
+		for (int i = 0; i < sorted.size() && i < SUMMARY_TOP; i++) {
+			Map.Entry<String, long[]> entry = sorted.get(i);
+			message.append("\n  ").append(entry.getValue()[0]).append(" x ").append(entry.getKey());
+		}
+		summaryLogger.info(message);
+	}
+
+	/**
+	 * 语句形状: 合并连续空白, 字符串与数字字面量替换为?, IN (?, ?, ...)合并为IN (?...).
+	 */
+	static String shape(String sql) {
+		StringBuilder out = new StringBuilder(sql.length());
+		int length = sql.length();
+		int i = 0;
+		while (i < length) {
+			char c = sql.charAt(i);
+			if (Character.isWhitespace(c)) {
+				while (i < length && Character.isWhitespace(sql.charAt(i))) {
+					i++;
+				}
+				if (out.length() > 0 && i < length) {
+					out.append(' ');
+				}
+			} else if (c == '\'') {
+				i++;
+				while (i < length) {
+					if (sql.charAt(i) == '\'') {
+						if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+							i += 2;
+							continue;
+						}
+						break;
+					}
+					i++;
+				}
+				i++;
+				out.append('?');
+			} else if (isDigit(c) && !isIdentifierPart(out)) {
+				while (i < length && (isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+					i++;
+				}
+				out.append('?');
+			} else {
+				out.append(c);
+				i++;
+			}
+			collapseList(out);
+		}
+		return out.toString();
+	}
+
+	/**
+	 * 输出以", ?"结尾且前面已是"(?"或"(?..."时合并, 不同长度的IN列表得到相同的形状.
+	 */
+	private static void collapseList(StringBuilder out) {
+		int end = out.length();
+		if (end < 4 || out.charAt(end - 1) != '?') {
+			return;
+		}
+		int comma = end - 2;
+		if (out.charAt(comma) == ' ') {
+			comma--;
+		}
+		if (comma < 0 || out.charAt(comma) != ',') {
+			return;
+		}
+		int prev = comma - 1;
+		if (prev >= 0 && out.charAt(prev) == ' ') {
+			prev--;
+		}
+		if (prev >= 1 && out.charAt(prev) == '?' && out.charAt(prev - 1) == '(') {
+			out.setLength(prev + 1);
+			out.append("...");
+		} else if (prev >= 4 && out.charAt(prev) == '.' && out.charAt(prev - 3) == '?'
+				&& out.charAt(prev - 4) == '(') {
+			out.setLength(prev + 1);
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * 前一个字符是标识符的一部分时, 数字属于标识符(如emp0_), 不是字面量.
+	 */
+	private static boolean isIdentifierPart(StringBuilder out) {
+		if (out.length() == 0) {
+			return false;
+		}
+		char prev = out.charAt(out.length() - 1);
+		return Character.isLetterOrDigit(prev) || prev == '_' || prev == '$';
+	}
+}
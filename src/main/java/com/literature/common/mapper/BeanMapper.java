@@ -0,0 +1,396 @@
+package com.literature.common.mapper;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Id;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.literature.common.utils.Reflections;
+
+/**
+ * 预先解析好属性映射的对象转换器, 用于Entity到视图对象(DTO)的转换, 由Mappers按(源类型, 目标类型)创建并缓存.
+ *
+ * 目标类的每个可写属性按@MapFrom指定的路径取值, 未标注时取源对象的同名属性, 源对象没有同名属性则忽略.
+ * 读写均使用编译好的访问器, 转换时不再反射查找方法.
+ *
+ * 为避免转换时触发Hibernate延迟加载:
+ * 1. 路径经过未初始化的代理时, 如下一级是主键(@Id)则从代理中直接取主键, 否则结果为Null.
+ * 2. 需要继续转换的关联对象或集合未初始化时, 结果为Null.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class BeanMapper<S, T> {
+
+	private static Logger logger = LoggerFactory.getLogger(BeanMapper.class);
+
+	private final Class<S> sourceType;
+
+	private final Class<T> targetType;
+
+	private final Constructor<T> constructor;
+
+	private final PropertyMapping[] mappings;
+
+	BeanMapper(Class<S> sourceType, Class<T> targetType) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		try {
+			this.constructor = targetType.getDeclaredConstructor();
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(targetType.getName() + " has no default constructor", e);
+		}
+		this.constructor.setAccessible(true);
+		List<PropertyMapping> mappings = new ArrayList<PropertyMapping>();
+		for (PropertyDescriptor property : getProperties(targetType)) {
+			Method setter = property.getWriteMethod();
+			if (setter == null) {
+				continue;
+			}
+			MapFrom mapFrom = findMapFrom(targetType, property);
+			String path = mapFrom != null ? mapFrom.value() : property.getName();
+			PropertyMapping mapping = createMapping(path, setter, mapFrom != null);
+			if (mapping != null) {
+				mappings.add(mapping);
+			}
+		}
+		this.mappings = mappings.toArray(new PropertyMapping[mappings.size()]);
+	}
+
+	/**
+	 * 转换为新的目标对象, 源对象为Null时返回Null.
+	 */
+	public T map(S source) {
+		if (source == null) {
+			return null;
+		}
+		T target = newTarget();
+		map(source, target);
+		return target;
+	}
+
+	/**
+	 * 将源对象的属性复制到已存在的目标对象.
+	 */
+	public void map(S source, T target) {
+		for (PropertyMapping mapping : mappings) {
+			mapping.apply(source, target);
+		}
+	}
+
+	/**
+	 * 转换集合中的全部对象.
+	 */
+	public List<T> mapList(Collection<? extends S> sources) {
+		List<T> targets = new ArrayList<T>(sources.size());
+		for (S source : sources) {
+			targets.add(map(source));
+		}
+		return targets;
+	}
+
+	public Class<S> getSourceType() {
+		return sourceType;
+	}
+
+	public Class<T> getTargetType() {
+		return targetType;
+	}
+
+	private T newTarget() {
+		try {
+			return constructor.newInstance();
+		} catch (Exception e) {
+			throw Reflections.convertReflectionExceptionToUnchecked(e);
+		}
+	}
+
+	/**
+	 * 解析属性路径并确定值的转换方式, 同名属性不存在或类型无法转换时返回Null, @MapFrom指定的路径无效时抛出异常.
+	 */
+	private PropertyMapping createMapping(String path, Method setter, boolean explicit) {
+		String[] names = StringUtils.split(path, ".");
+		@SuppressWarnings("unchecked")
+		Function<Object, Object>[] getters = (Function<Object, Object>[]) new Function<?, ?>[names.length];
+		boolean[] ids = new boolean[names.length];
+		Class<?> type = sourceType;
+		Type genericType = sourceType;
+		for (int i = 0; i < names.length; i++) {
+			PropertyDescriptor property = findProperty(type, names[i]);
+			if (property == null || property.getReadMethod() == null) {
+				if (explicit) {
+					throw new IllegalArgumentException("Could not find property [" + path + "] on "
+							+ sourceType.getName() + " for " + targetType.getName());
+				}
+				return null;
+			}
+			Method getter = property.getReadMethod();
+			getters[i] = Reflections.compileGetter(getter);
+			ids[i] = isId(type, property);
+			type = getter.getReturnType();
+			genericType = getter.getGenericReturnType();
+		}
+		Converter converter = createConverter(type, genericType, setter.getParameterTypes()[0],
+				setter.getGenericParameterTypes()[0]);
+		if (converter == null) {
+			if (explicit) {
+				throw new IllegalArgumentException("Could not map [" + path + "] of " + sourceType.getName()
+						+ " to " + targetType.getName() + "." + setter.getName());
+			}
+			logger.debug("skip property {} of {}: incompatible type", path, targetType.getName());
+			return null;
+		}
+		return new PropertyMapping(getters, ids, converter, Reflections.compileSetter(setter),
+				setter.getParameterTypes()[0].isPrimitive());
+	}
+
+	/**
+	 * 类型可直接赋值时原样复制, 不同的Bean类型使用嵌套的BeanMapper, 集合逐个元素转换.
+	 */
+	private static Converter createConverter(Class<?> sourceClass, Type sourceType, Class<?> targetClass,
+			Type targetType) {
+		if (Collection.class.isAssignableFrom(targetClass) && Iterable.class.isAssignableFrom(sourceClass)) {
+			Class<?> sourceElement = elementType(sourceType);
+			Class<?> targetElement = elementType(targetType);
+			if (targetClass != List.class && targetClass != Set.class && targetClass != Collection.class
+					|| sourceElement == null || targetElement == null) {
+				return null;
+			}
+			Converter element = targetElement.isAssignableFrom(sourceElement) ? null
+					: createConverter(sourceElement, sourceElement, targetElement, targetElement);
+			if (element == null && !targetElement.isAssignableFrom(sourceElement)) {
+				return null;
+			}
+			return new CollectionConverter(targetClass == Set.class, element);
+		}
+		if (ClassUtils.isAssignable(sourceClass, targetClass, true)) {
+			return DirectConverter.INSTANCE;
+		}
+		if (isBean(sourceClass) && isBean(targetClass)) {
+			return new NestedConverter(sourceClass, targetClass);
+		}
+		return null;
+	}
+
+	private static boolean isBean(Class<?> type) {
+		return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !type.isInterface()
+				&& !ClassUtils.isPrimitiveWrapper(type) && !type.getName().startsWith("java.");
+	}
+
+	private static Class<?> elementType(Type type) {
+		if (type instanceof ParameterizedType) {
+			Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+			if (args.length == 1 && args[0] instanceof Class) {
+				return (Class<?>) args[0];
+			}
+		}
+		return null;
+	}
+
+	private static PropertyDescriptor[] getProperties(Class<?> type) {
+		try {
+			BeanInfo beanInfo = Introspector.getBeanInfo(type);
+			return beanInfo.getPropertyDescriptors();
+		} catch (IntrospectionException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	private static PropertyDescriptor findProperty(Class<?> type, String name) {
+		for (PropertyDescriptor property : getProperties(type)) {
+			if (property.getName().equals(name)) {
+				return property;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 依次查找setter、getter、同名字段上的@MapFrom.
+	 */
+	private static MapFrom findMapFrom(Class<?> type, PropertyDescriptor property) {
+		MapFrom mapFrom = property.getWriteMethod().getAnnotation(MapFrom.class);
+		if (mapFrom == null && property.getReadMethod() != null) {
+			mapFrom = property.getReadMethod().getAnnotation(MapFrom.class);
+		}
+		if (mapFrom == null) {
+			Field field = findField(type, property.getName());
+			mapFrom = field != null ? field.getAnnotation(MapFrom.class) : null;
+		}
+		return mapFrom;
+	}
+
+	/**
+	 * 主键注解可以标注在getter或字段上.
+	 */
+	private static boolean isId(Class<?> type, PropertyDescriptor property) {
+		Method getter = property.getReadMethod();
+		if (getter.isAnnotationPresent(Id.class) || getter.isAnnotationPresent(EmbeddedId.class)) {
+			return true;
+		}
+		Field field = findField(type, property.getName());
+		return field != null && (field.isAnnotationPresent(Id.class) || field.isAnnotationPresent(EmbeddedId.class));
+	}
+
+	private static Field findField(Class<?> type, String name) {
+		for (Class<?> searchType = type; searchType != Object.class && searchType != null; searchType = searchType
+				.getSuperclass()) {
+			try {
+				return searchType.getDeclaredField(name);
+			} catch (NoSuchFieldException e) {//NOSONAR
+				// Field不在当前类定义,继续向上转型
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 单个目标属性的映射.
+	 */
+	private static class PropertyMapping {
+
+		private final Function<Object, Object>[] getters;
+
+		private final boolean[] ids;
+
+		private final Converter converter;
+
+		private final BiConsumer<Object, Object> setter;
+
+		private final boolean primitive;
+
+		PropertyMapping(Function<Object, Object>[] getters, boolean[] ids, Converter converter,
+				BiConsumer<Object, Object> setter, boolean primitive) {
+			this.getters = getters;
+			this.ids = ids;
+			this.converter = converter;
+			this.setter = setter;
+			this.primitive = primitive;
+		}
+
+		void apply(Object source, Object target) {
+			Object value = converter.convert(read(source));
+			if (value != null || !primitive) {
+				setter.accept(target, value);
+			}
+		}
+
+		/**
+		 * 按路径逐级读取, 源对象本身由调用方决定是否加载, 其后经过的未初始化代理不会被加载.
+		 */
+		private Object read(Object source) {
+			Object value = source;
+			for (int i = 0; i < getters.length; i++) {
+				if (value == null) {
+					return null;
+				}
+				if (!Hibernate.isInitialized(value)) {
+					if (ids[i] && value instanceof HibernateProxy) {
+						value = ((HibernateProxy) value).getHibernateLazyInitializer().getIdentifier();
+						continue;
+					}
+					if (i > 0) {
+						return null;
+					}
+				}
+				value = getters[i].apply(value);
+			}
+			return value;
+		}
+	}
+
+	private interface Converter {
+		Object convert(Object value);
+	}
+
+	private static class DirectConverter implements Converter {
+
+		private static final DirectConverter INSTANCE = new DirectConverter();
+
+		@Override
+		public Object convert(Object value) {
+			return value;
+		}
+	}
+
+	/**
+	 * 关联对象使用嵌套的BeanMapper转换, 首次使用时才查找, 避免相互引用的类型在创建时无限递归.
+	 */
+	private static class NestedConverter implements Converter {
+
+		private final Class<?> sourceType;
+
+		private final Class<?> targetType;
+
+		private volatile BeanMapper<Object, Object> mapper;
+
+		NestedConverter(Class<?> sourceType, Class<?> targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object convert(Object value) {
+			if (value == null || !Hibernate.isInitialized(value)) {
+				return null;
+			}
+			BeanMapper<Object, Object> mapper = this.mapper;
+			if (mapper == null) {
+				mapper = (BeanMapper<Object, Object>) Mappers.get(sourceType, targetType);
+				this.mapper = mapper;
+			}
+			return mapper.map(value);
+		}
+	}
+
+	/**
+	 * 集合转换为新的ArrayList或LinkedHashSet, 未初始化的延迟加载集合结果为Null.
+	 */
+	private static class CollectionConverter implements Converter {
+
+		private final boolean set;
+
+		private final Converter element;
+
+		CollectionConverter(boolean set, Converter element) {
+			this.set = set;
+			this.element = element;
+		}
+
+		@Override
+		public Object convert(Object value) {
+			if (value == null || !Hibernate.isInitialized(value)) {
+				return null;
+			}
+			int size = value instanceof Collection ? ((Collection<?>) value).size() : 16;
+			Collection<Object> result = set ? new LinkedHashSet<Object>(size * 4 / 3 + 1) : new ArrayList<Object>(size);
+			for (Object item : (Iterable<?>) value) {
+				result.add(element == null ? item : element.convert(item));
+			}
+			return result;
+		}
+	}
+}
@@ -1,19 +1,34 @@
 package com.literature.common.mapper;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.util.JSONPObject;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
 
 /**
@@ -26,34 +41,140 @@ public class JsonMapper {
 
 	private static Logger logger = LoggerFactory.getLogger(JsonMapper.class);
 
+	private static final JsonMapper NON_EMPTY_MAPPER = shared(null, Include.NON_EMPTY);
+
+	private static final JsonMapper NON_DEFAULT_MAPPER = shared(null, Include.NON_DEFAULT);
+
+	private static final JsonMapper SMILE_MAPPER = shared(new SmileFactory(), Include.NON_EMPTY);
+
+	private static final JsonMapper CBOR_MAPPER = shared(new CBORFactory(), Include.NON_EMPTY);
+
 	private ObjectMapper mapper;
 
+	/**
+	 * 是否为全局共享的实例, 共享实例不允许再修改配置
+	 */
+	private boolean shared;
+
+	/**
+	 * 按类型缓存预先解析好的Reader/Writer
+	 */
+	private final ConcurrentMap<Class<?>, Codec<?>> classCodecs = new ConcurrentHashMap<Class<?>, Codec<?>>();
+
+	private final ConcurrentMap<JavaType, Codec<?>> typeCodecs = new ConcurrentHashMap<JavaType, Codec<?>>();
+
 	public JsonMapper() {
 		this(null);
 	}
 
 	public JsonMapper(Include include) {
-		mapper = new ObjectMapper();
+		this(null, include);
+	}
+
+	/**
+	 * 使用指定的数据格式, 如SmileFactory、CBORFactory输出二进制格式, 为Null时使用JSON文本格式.
+	 */
+	public JsonMapper(JsonFactory jsonFactory, Include include) {
+		mapper = new ObjectMapper(jsonFactory);
 		// 设置输出时包含属性的风格
 		if (include != null) {
 			mapper.setSerializationInclusion(include);
 		}
 		// 设置输入时忽略在JSON字符串中存在但Java对象实际没有的属性
 		mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		// 识别Hibernate代理与延迟加载集合, 序列化时不触发延迟加载
+		mapper.registerModule(createHibernateModule());
+	}
+
+	/**
+	 * 未初始化的代理对象只输出主键, 未初始化的集合输出为Null(NON_EMPTY/NON_DEFAULT下不输出),
+	 * 因此序列化实体时不会产生额外的SQL, 在Session关闭后也不会抛出LazyInitializationException.
+	 */
+	private static Hibernate5Module createHibernateModule() {
+		Hibernate5Module module = new Hibernate5Module();
+		module.disable(Hibernate5Module.Feature.FORCE_LAZY_LOADING);
+		module.enable(Hibernate5Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
+		return module;
 	}
 
 	/**
-	 * 创建只输出非Null且非Empty(如List.isEmpty)的属性到Json字符串的Mapper,建议在外部接口中使用.
+	 * 取得只输出非Null且非Empty(如List.isEmpty)的属性到Json字符串的Mapper,建议在外部接口中使用.
+	 * 返回全局共享的实例, 使Jackson的序列化器缓存在各调用方之间复用, 不能再调用enableXxx函数修改配置.
 	 */
 	public static JsonMapper nonEmptyMapper() {
-		return new JsonMapper(Include.NON_EMPTY);
+		return NON_EMPTY_MAPPER;
 	}
 
 	/**
-	 * 创建只输出初始值被改变的属性到Json字符串的Mapper, 最节约的存储方式，建议在内部接口中使用。
+	 * 取得只输出初始值被改变的属性到Json字符串的Mapper, 最节约的存储方式，建议在内部接口中使用。
+	 * 返回全局共享的实例, 不能再调用enableXxx函数修改配置.
 	 */
 	public static JsonMapper nonDefaultMapper() {
-		return new JsonMapper(Include.NON_DEFAULT);
+		return NON_DEFAULT_MAPPER;
+	}
+
+	/**
+	 * 取得输出Smile二进制格式的Mapper, 用于两端都是Java的服务间调用, 报文比JSON文本更小, 编解码更快.
+	 * 二进制格式请使用toBytes()/writeTo()/fromJson(byte[])等字节流函数, 不能使用toJson()输出String.
+	 * 返回全局共享的实例, 不能再调用enableXxx函数修改配置.
+	 */
+	public static JsonMapper smileMapper() {
+		return SMILE_MAPPER;
+	}
+
+	/**
+	 * 取得输出CBOR(RFC 7049)二进制格式的Mapper.
+	 * 
+	 * @see #smileMapper()
+	 */
+	public static JsonMapper cborMapper() {
+		return CBOR_MAPPER;
+	}
+
+	private static JsonMapper shared(JsonFactory jsonFactory, Include include) {
+		JsonMapper jsonMapper = new JsonMapper(jsonFactory, include);
+		jsonMapper.shared = true;
+		return jsonMapper;
+	}
+
+	/**
+	 * 取得类型对应的Codec, 其中的ObjectReader/ObjectWriter已预先解析好序列化器, 可在多线程间复用.
+	 * 适合在热点代码中反复读写同一类型, 如Emp、Dept.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Codec<T> codecFor(Class<T> clazz) {
+		Codec<?> codec = classCodecs.get(clazz);
+		if (codec == null) {
+			codec = codecFor(mapper.constructType(clazz));
+			classCodecs.putIfAbsent(clazz, codec);
+		}
+		return (Codec<T>) codec;
+	}
+
+	/**
+	 * 取得复杂类型如List<Bean>对应的Codec, 先使用contructCollectionType()或contructMapType()构造类型.
+	 * 
+	 * @see #codecFor(Class)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Codec<T> codecFor(JavaType javaType) {
+		Codec<?> codec = typeCodecs.get(javaType);
+		if (codec == null) {
+			codec = new Codec<T>(mapper.readerFor(javaType), mapper.writerFor(javaType));
+			Codec<?> existing = typeCodecs.putIfAbsent(javaType, codec);
+			if (existing != null) {
+				codec = existing;
+			}
+		}
+		return (Codec<T>) codec;
+	}
+
+	/**
+	 * 取得List<elementClass>对应的Codec, 用于输出Emp、Dept列表等.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <E> Codec<List<E>> listCodecFor(Class<E> elementClass) {
+		return (Codec) codecFor(contructCollectionType(List.class, elementClass));
 	}
 
 	/**
@@ -71,6 +192,75 @@ public class JsonMapper {
 		}
 	}
 
+	/**
+	 * 序列化为字节数组, JSON格式时为UTF-8编码, 二进制格式的Mapper也使用本函数.
+	 * 出错时返回Null.
+	 */
+	public byte[] toBytes(Object object) {
+
+		try {
+			return mapper.writeValueAsBytes(object);
+		} catch (IOException e) {
+			logger.warn("write to bytes error:" + object, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 按视图输出JSON字符串, 只包含未标注@JsonView或标注了该视图的属性, 用于按调用场景声明需要输出的关联对象.
+	 * 
+	 * @see com.literature.domain.Views
+	 */
+	public String toJson(Object object, Class<?> view) {
+
+		try {
+			return mapper.writerWithView(view).writeValueAsString(object);
+		} catch (IOException e) {
+			logger.warn("write to json string error:" + object, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 将Object直接序列化到OutputStream, 不生成中间的String, 内存占用只有输出缓冲区大小.
+	 * 输出使用UTF-8编码, 写完后flush但不关闭OutputStream.
+	 */
+	public void writeTo(OutputStream out, Object object) throws IOException {
+		writeTo(out, object, null);
+	}
+
+	/**
+	 * 按视图将Object直接序列化到OutputStream, view为Null时输出全部属性.
+	 * 
+	 * @see #toJson(Object, Class)
+	 */
+	public void writeTo(OutputStream out, Object object, Class<?> view) throws IOException {
+		JsonGenerator generator = createGenerator(out);
+		try {
+			mapper.writerWithView(view).writeValue(generator, object);
+		} finally {
+			generator.close();
+		}
+	}
+
+	/**
+	 * 将Iterator中的元素逐个序列化为JSON数组输出到OutputStream, 不需要先把全部元素收集为List.
+	 * 输出使用UTF-8编码, 写完后flush但不关闭OutputStream.
+	 */
+	public void writeIterable(OutputStream out, Iterator<?> iterator) throws IOException {
+		ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		JsonGenerator generator = createGenerator(out);
+		try {
+			generator.writeStartArray();
+			while (iterator.hasNext()) {
+				writer.writeValue(generator, iterator.next());
+			}
+			generator.writeEndArray();
+		} finally {
+			generator.close();
+		}
+	}
+
 	/**
 	 * 反序列化POJO或简单Collection如List<String>.
 	 * 
@@ -87,7 +277,7 @@ public class JsonMapper {
 		}
 
 		try {
-			return mapper.readValue(jsonString, clazz);
+			return codecFor(clazz).reader.readValue(jsonString);
 		} catch (IOException e) {
 			logger.warn("parse json string error:" + jsonString, e);
 			return null;
@@ -106,13 +296,67 @@ public class JsonMapper {
 		}
 
 		try {
-			return (T) mapper.readValue(jsonString, javaType);
+			return (T) codecFor(javaType).reader.readValue(jsonString);
 		} catch (IOException e) {
 			logger.warn("parse json string error:" + jsonString, e);
 			return null;
 		}
 	}
 
+	/**
+	 * 从UTF-8编码的字节数组反序列化, 省去先解码为String的过程.
+	 * 
+	 * 如果字节数组为Null或长度为0, 返回Null.
+	 */
+	public <T> T fromJson(byte[] json, Class<T> clazz) {
+		if (json == null || json.length == 0) {
+			return null;
+		}
+
+		try {
+			return mapper.readValue(json, clazz);
+		} catch (IOException e) {
+			logger.warn("parse json bytes error, length:" + json.length, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 从UTF-8编码的字节数组反序列化复杂Collection如List<Bean>.
+	 * 
+	 * @see #fromJson(String, JavaType)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T fromJson(byte[] json, JavaType javaType) {
+		if (json == null || json.length == 0) {
+			return null;
+		}
+
+		try {
+			return (T) mapper.readValue(json, javaType);
+		} catch (IOException e) {
+			logger.warn("parse json bytes error, length:" + json.length, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 从InputStream流式反序列化, 读取完成后不关闭InputStream.
+	 * 与String版本不同, 读取或解析错误直接抛出, 由InputStream的持有者处理.
+	 */
+	public <T> T fromJson(InputStream in, Class<T> clazz) throws IOException {
+		return fromJson(in, mapper.constructType(clazz));
+	}
+
+	/**
+	 * 从InputStream流式反序列化复杂Collection如List<Bean>, 读取完成后不关闭InputStream.
+	 * 
+	 * @see #fromJson(InputStream, Class)
+	 */
+	public <T> T fromJson(InputStream in, JavaType javaType) throws IOException {
+		return codecFor(javaType).reader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in);
+	}
+
 	/**
 	 * 构造Collection类型.
 	 */
@@ -156,6 +400,7 @@ public class JsonMapper {
 	 * 注意本函數一定要在Mapper創建後, 所有的讀寫動作之前調用.
 	 */
 	public void enableEnumUseToString() {
+		checkNotShared();
 		mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
 		mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
 	}
@@ -165,15 +410,103 @@ public class JsonMapper {
 	 * 默认会先查找jaxb的annotation，如果找不到再找jackson的。
 	 */
 	public void enableJaxbAnnotation() {
+		checkNotShared();
 		JaxbAnnotationModule module = new JaxbAnnotationModule();
 		mapper.registerModule(module);
 	}
 
+	/**
+	 * 共享实例不允许修改配置; 非共享实例修改配置后清空已缓存的Codec.
+	 */
+	private void checkNotShared() {
+		if (shared) {
+			throw new IllegalStateException("shared JsonMapper can't be reconfigured, create a new JsonMapper instead");
+		}
+		classCodecs.clear();
+		typeCodecs.clear();
+	}
+
+	/**
+	 * 创建输出到OutputStream的Generator, 关闭Generator时不关闭OutputStream.
+	 */
+	private JsonGenerator createGenerator(OutputStream out) throws IOException {
+		JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		return generator;
+	}
+
 	/**
 	 * 取出Mapper做进一步的设置或使用其他序列化API.
+	 * 共享实例返回的Mapper只应用于读写, 不要修改其配置.
 	 */
 	public ObjectMapper getMapper() {
 		return mapper;
 	}
+
+	/**
+	 * 绑定到固定类型的Reader/Writer, 二者均为不可变对象, 线程安全.
+	 */
+	public static final class Codec<T> {
+
+		private final ObjectReader reader;
+
+		private final ObjectWriter writer;
+
+		private Codec(ObjectReader reader, ObjectWriter writer) {
+			this.reader = reader;
+			this.writer = writer;
+		}
+
+		/**
+		 * 序列化为JSON字符串, 出错时返回Null.
+		 */
+		public String toJson(T object) {
+			try {
+				return writer.writeValueAsString(object);
+			} catch (IOException e) {
+				logger.warn("write to json string error:" + object, e);
+				return null;
+			}
+		}
+
+		/**
+		 * 序列化到OutputStream, 写完后不关闭OutputStream.
+		 */
+		public void writeTo(OutputStream out, T object) throws IOException {
+			writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, object);
+		}
+
+		/**
+		 * 取得按视图输出的Codec.
+		 * 
+		 * @see JsonMapper#toJson(Object, Class)
+		 */
+		public Codec<T> withView(Class<?> view) {
+			return new Codec<T>(reader, writer.withView(view));
+		}
+
+		/**
+		 * 反序列化JSON字符串, 字符串为空或出错时返回Null.
+		 */
+		public T fromJson(String jsonString) {
+			if (StringUtils.isEmpty(jsonString)) {
+				return null;
+			}
+			try {
+				return reader.readValue(jsonString);
+			} catch (IOException e) {
+				logger.warn("parse json string error:" + jsonString, e);
+				return null;
+			}
+		}
+
+		public ObjectReader getReader() {
+			return reader;
+		}
+
+		public ObjectWriter getWriter() {
+			return writer;
+		}
+	}
 }
 
@@ -0,0 +1,162 @@
+package com.literature.common.mapper;
+
+import java.io.IOException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+
+import javax.xml.transform.Source;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * 基于JsonMapper的HttpMessageConverter, 直接在请求/响应流上读写JSON, 不生成中间的String.
+ * 配合JsonMapper.smileMapper()/cborMapper()可读写二进制格式, 按请求的Accept/Content-Type选择.
+ * 返回值为Iterator时逐个元素输出为JSON数组, 返回值为MappingJacksonValue时按其中的视图输出.
+ * 注册在默认Converter之前, byte[]、Resource等由默认Converter原样输出的类型不在此处理, 见supports().
+ * 读取时按参数的泛型类型解析, 如@RequestBody List<Emp>得到Emp列表而不是Map列表.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class JsonMapperHttpMessageConverter extends AbstractHttpMessageConverter<Object>
+		implements GenericHttpMessageConverter<Object> {
+
+	public static final Charset DEFAULT_CHARSET = Charset.forName("UTF-8");
+
+	private final JsonMapper jsonMapper;
+
+	public JsonMapperHttpMessageConverter() {
+		this(JsonMapper.nonEmptyMapper());
+	}
+
+	public JsonMapperHttpMessageConverter(JsonMapper jsonMapper) {
+		super(new MediaType("application", "json", DEFAULT_CHARSET),
+				new MediaType("application", "*+json", DEFAULT_CHARSET));
+		this.jsonMapper = jsonMapper;
+	}
+
+	/**
+	 * 使用指定的Media Type, 如二进制格式的application/x-jackson-smile、application/cbor.
+	 */
+	public JsonMapperHttpMessageConverter(JsonMapper jsonMapper, String mediaType) {
+		super(MediaType.parseMediaType(mediaType));
+		this.jsonMapper = jsonMapper;
+	}
+
+	/**
+	 * 不处理byte[]、String、Resource、Source与表单, 否则请求接受任意类型时这些返回值也会被转成JSON.
+	 */
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return !(byte[].class == clazz || CharSequence.class.isAssignableFrom(clazz)
+				|| Resource.class.isAssignableFrom(clazz) || Source.class.isAssignableFrom(clazz)
+				|| MultiValueMap.class.isAssignableFrom(clazz));
+	}
+
+	@Override
+	public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+		return supports(getJavaType(type, contextClass).getRawClass()) && canRead(mediaType);
+	}
+
+	@Override
+	public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		return read(getJavaType(type, contextClass), inputMessage);
+	}
+
+	@Override
+	protected Object readInternal(Class<? extends Object> clazz, HttpInputMessage inputMessage)
+			throws IOException, HttpMessageNotReadableException {
+		return read(jsonMapper.getMapper().constructType(clazz), inputMessage);
+	}
+
+	private Object read(JavaType javaType, HttpInputMessage inputMessage) throws IOException {
+		try {
+			return jsonMapper.fromJson(inputMessage.getBody(), javaType);
+		} catch (JsonProcessingException e) {
+			throw new HttpMessageNotReadableException("Could not read " + getSupportedMediaTypes() + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 解析参数的泛型类型, 类型变量按contextClass(Controller类)继承时指定的实际类型解析,
+	 * 如DeptController extends CrudController<Dept>中的List<T>解析为List<Dept>.
+	 */
+	private JavaType getJavaType(Type type, Class<?> contextClass) {
+		TypeFactory typeFactory = jsonMapper.getMapper().getTypeFactory();
+		Class<?> declaringClass = declaringClass(type);
+		if (contextClass == null || declaringClass == null) {
+			return typeFactory.constructType(type);
+		}
+		JavaType declaringType = typeFactory.constructType(contextClass).findSuperType(declaringClass);
+		return typeFactory.constructType(type, declaringType != null ? declaringType.getBindings() : null);
+	}
+
+	/**
+	 * 类型中第一个类级别类型变量所属的类, 没有时返回Null.
+	 */
+	private static Class<?> declaringClass(Type type) {
+		if (type instanceof TypeVariable) {
+			GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+			return declaration instanceof Class ? (Class<?>) declaration : null;
+		}
+		if (type instanceof ParameterizedType) {
+			for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+				Class<?> declaringClass = declaringClass(argument);
+				if (declaringClass != null) {
+					return declaringClass;
+				}
+			}
+		} else if (type instanceof GenericArrayType) {
+			return declaringClass(((GenericArrayType) type).getGenericComponentType());
+		} else if (type instanceof WildcardType) {
+			for (Type bound : ((WildcardType) type).getUpperBounds()) {
+				Class<?> declaringClass = declaringClass(bound);
+				if (declaringClass != null) {
+					return declaringClass;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	protected void writeInternal(Object object, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		try {
+			if (object instanceof MappingJacksonValue) {
+				MappingJacksonValue container = (MappingJacksonValue) object;
+				jsonMapper.writeTo(outputMessage.getBody(), container.getValue(), container.getSerializationView());
+			} else if (object instanceof Iterator) {
+				jsonMapper.writeIterable(outputMessage.getBody(), (Iterator<?>) object);
+			} else {
+				jsonMapper.writeTo(outputMessage.getBody(), object);
+			}
+		} catch (JsonProcessingException e) {
+			throw new HttpMessageNotWritableException("Could not write " + getSupportedMediaTypes() + ": " + e.getMessage(), e);
+		}
+	}
+
+	public JsonMapper getJsonMapper() {
+		return jsonMapper;
+	}
+}
@@ -0,0 +1,29 @@
+package com.literature.common.mapper;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 指定目标属性从源对象的哪个属性路径取值, 未标注时按同名属性复制.
+ * 可标注在目标类的字段、getter或setter上.
+ *
+ * eg.
+ * @MapFrom("dept.name")
+ * private String deptName;
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface MapFrom {
+
+	/**
+	 * 源对象的属性路径, 支持多级, 如"dept.name".
+	 */
+	String value();
+}
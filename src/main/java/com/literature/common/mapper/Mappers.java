@@ -0,0 +1,82 @@
+package com.literature.common.mapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.proxy.HibernateProxyHelper;
+
+import com.literature.common.utils.Reflections;
+
+/**
+ * BeanMapper的注册表, 每对(源类型, 目标类型)只解析一次属性映射, 之后直接复用.
+ * 源类型不是本应用加载的类型(如JDK的类型)时不缓存, 避免其持有应用的ClassLoader, 见Reflections.isApplicationClass().
+ *
+ * eg.
+ * BeanMapper<Emp, EmpView> mapper = Mappers.get(Emp.class, EmpView.class);
+ * EmpView view = mapper.map(emp);
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class Mappers {
+
+	private static final ClassValue<ConcurrentMap<Class<?>, BeanMapper<?, ?>>> mappers = new ClassValue<ConcurrentMap<Class<?>, BeanMapper<?, ?>>>() {
+		@Override
+		protected ConcurrentMap<Class<?>, BeanMapper<?, ?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<Class<?>, BeanMapper<?, ?>>();
+		}
+	};
+
+	/**
+	 * 取得(源类型, 目标类型)的BeanMapper, 首次调用时解析属性映射.
+	 *
+	 * @throws IllegalArgumentException 目标类没有无参构造函数或@MapFrom指定的属性路径不存在.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, T> BeanMapper<S, T> get(Class<S> sourceType, Class<T> targetType) {
+		if (!Reflections.isApplicationClass(sourceType)) {
+			return new BeanMapper<S, T>(sourceType, targetType);
+		}
+		ConcurrentMap<Class<?>, BeanMapper<?, ?>> byTarget = mappers.get(sourceType);
+		BeanMapper<?, ?> mapper = byTarget.get(targetType);
+		if (mapper == null) {
+			// 不使用computeIfAbsent, 构造BeanMapper时可能再次进入本方法
+			BeanMapper<?, ?> created = new BeanMapper<S, T>(sourceType, targetType);
+			mapper = byTarget.putIfAbsent(targetType, created);
+			if (mapper == null) {
+				mapper = created;
+			}
+		}
+		return (BeanMapper<S, T>) mapper;
+	}
+
+	/**
+	 * 按源对象的实际类型转换为目标类型, Hibernate代理按其实体类型查找BeanMapper, 不会触发加载.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T map(Object source, Class<T> targetType) {
+		if (source == null) {
+			return null;
+		}
+		BeanMapper<Object, T> mapper = (BeanMapper<Object, T>) get(sourceClass(source), targetType);
+		return mapper.map(source);
+	}
+
+	/**
+	 * 转换集合中的全部对象.
+	 */
+	public static <T> List<T> mapList(Collection<?> sources, Class<T> targetType) {
+		List<T> targets = new ArrayList<T>(sources.size());
+		for (Object source : sources) {
+			targets.add(map(source, targetType));
+		}
+		return targets;
+	}
+
+	static Class<?> sourceClass(Object source) {
+		return HibernateProxyHelper.getClassWithoutInitializingProxy(source);
+	}
+}
@@ -0,0 +1,113 @@
+package com.literature.common.mapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.literature.common.dao.ScrollCallback;
+
+/**
+ * 以NDJSON(每行一个JSON对象)格式逐条输出记录, 可直接作为SimpleHibernateDao.scrollAll()的回调.
+ * 每flushInterval条flush一次, 使客户端边接收边处理; 客户端断开连接时停止遍历.
+ * 整个流共用一个JsonGenerator, 写每条记录时不flush OutputStream, 避免每行都成为一个HTTP chunk(压缩时为一次SYNC_FLUSH).
+ * @param <T> 输出的对象类型
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class NdjsonWriter<T> implements ScrollCallback<T> {
+
+	public static final String CONTENT_TYPE = "application/x-ndjson;charset=UTF-8";
+
+	private static Logger logger = LoggerFactory.getLogger(NdjsonWriter.class);
+
+	private static final char NEW_LINE = '\n';
+
+	private final OutputStream out;
+
+	private final ObjectWriter writer;
+
+	private final JsonGenerator generator;
+
+	private final int flushInterval;
+
+	private int count;
+
+	private boolean aborted;
+
+	private boolean finished;
+
+	public NdjsonWriter(OutputStream out, JsonMapper.Codec<T> codec, int flushInterval) throws IOException {
+		this.out = out;
+		this.writer = codec.getWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.generator = writer.getFactory().createGenerator(out, JsonEncoding.UTF8);
+		// Generator.flush()只把缓冲区写入out, 由本类决定何时flush out
+		generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		// 记录之间只用换行分隔, 不使用默认的空格
+		generator.setRootValueSeparator(null);
+		this.flushInterval = flushInterval;
+	}
+
+	@Override
+	public boolean process(T entity) {
+		try {
+			writer.writeValue(generator, entity);
+			generator.writeRaw(NEW_LINE);
+			if (++count % flushInterval == 0) {
+				generator.flush();
+				out.flush();
+			}
+			return true;
+		} catch (IOException e) {
+			// 客户端断开连接
+			logger.debug("ndjson stream aborted after {} rows: {}", count, e.getMessage());
+			aborted = true;
+			return false;
+		}
+	}
+
+	/**
+	 * 输出剩余内容, 客户端已断开时忽略.
+	 */
+	public void finish() {
+		finished = true;
+		if (aborted) {
+			return;
+		}
+		try {
+			generator.close();
+			out.flush();
+		} catch (IOException e) {
+			logger.debug("ndjson stream aborted on flush: {}", e.getMessage());
+			aborted = true;
+		}
+	}
+
+	/**
+	 * 已输出的记录数.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * 是否因客户端断开而中止.
+	 */
+	public boolean isAborted() {
+		return aborted;
+	}
+
+	/**
+	 * 是否已调用finish, 查询出错时为false.
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+}
@@ -0,0 +1,17 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+
+/**
+ * 抓取时才读取的指标, 如连接池、Hibernate统计与JVM的状态, 平时没有任何开销.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public interface Collector {
+
+	/**
+	 * 输出完整的指标族, 包括HELP与TYPE行.
+	 */
+	void collect(PrometheusWriter out) throws IOException;
+}
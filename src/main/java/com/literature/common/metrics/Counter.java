@@ -0,0 +1,34 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 只增不减的计数器, 以LongAdder分段累加, 多线程同时递增时不会争用同一个缓存行.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class Counter implements Metric {
+
+	private final LongAdder value = new LongAdder();
+
+	public void inc() {
+		value.increment();
+	}
+
+	public void add(long amount) {
+		value.add(amount);
+	}
+
+	public long get() {
+		return value.sum();
+	}
+
+	@Override
+	public void write(PrometheusWriter out, String name, String[] labelNames, List<String> labelValues)
+			throws IOException {
+		out.sample(name, labelNames, labelValues, null, null, value.sum());
+	}
+}
@@ -0,0 +1,71 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import com.alibaba.druid.pool.DruidDataSource;
+
+/**
+ * 输出Druid连接池的状态, 按数据源名称区分.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class DruidCollector implements Collector {
+
+	private static final String[] LABELS = { "pool" };
+
+	private final List<DruidDataSource> dataSources;
+
+	public DruidCollector(List<DruidDataSource> dataSources) {
+		this.dataSources = dataSources;
+	}
+
+	@Override
+	public void collect(PrometheusWriter out) throws IOException {
+		out.family("druid_pool_active_connections", "Connections borrowed from the pool", "gauge");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_active_connections", "pool", ds.getName(), ds.getActiveCount());
+		}
+		out.family("druid_pool_idle_connections", "Connections idle in the pool", "gauge");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_idle_connections", "pool", ds.getName(), ds.getPoolingCount());
+		}
+		out.family("druid_pool_max_connections", "Configured maxActive", "gauge");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_max_connections", "pool", ds.getName(), ds.getMaxActive());
+		}
+		out.family("druid_pool_waiting_threads", "Threads currently waiting for a connection", "gauge");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_waiting_threads", "pool", ds.getName(), ds.getNotEmptyWaitThreadCount());
+		}
+		out.family("druid_pool_active_peak_connections", "Highest active count since start", "gauge");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_active_peak_connections", "pool", ds.getName(), ds.getActivePeak());
+		}
+		out.family("druid_pool_waits_total", "Borrows that had to wait for a connection", "counter");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_waits_total", "pool", ds.getName(), ds.getNotEmptyWaitCount());
+		}
+		out.family("druid_pool_wait_seconds_total", "Total time spent waiting for a connection", "counter");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_wait_seconds_total", "pool", ds.getName(), ds.getNotEmptyWaitNanos() / 1e9);
+		}
+		out.family("druid_pool_connections_total", "Physical connections, by event", "counter");
+		for (DruidDataSource ds : dataSources) {
+			sample(out, "druid_pool_connections_total", ds.getName(), "created", ds.getCreateCount());
+			sample(out, "druid_pool_connections_total", ds.getName(), "destroyed", ds.getDestroyCount());
+			sample(out, "druid_pool_connections_total", ds.getName(), "error", ds.getCreateErrorCount());
+		}
+		out.family("druid_pool_errors_total", "Errors raised on pooled connections", "counter");
+		for (DruidDataSource ds : dataSources) {
+			out.sample("druid_pool_errors_total", "pool", ds.getName(), ds.getErrorCount());
+		}
+	}
+
+	private static void sample(PrometheusWriter out, String name, String pool, String event, double value)
+			throws IOException {
+		out.sample(name, LABELS, Collections.singletonList(pool), "event", event, value);
+	}
+}
@@ -0,0 +1,72 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 输出Hibernate的Statistics, 需要开启hibernate.generate_statistics, 未开启时不输出.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class HibernateCollector implements Collector {
+
+	private final SessionFactory sessionFactory;
+
+	public HibernateCollector(SessionFactory sessionFactory) {
+		this.sessionFactory = sessionFactory;
+	}
+
+	@Override
+	public void collect(PrometheusWriter out) throws IOException {
+		Statistics stats = sessionFactory.getStatistics();
+		if (!stats.isStatisticsEnabled()) {
+			return;
+		}
+		out.family("hibernate_sessions_opened_total", "Sessions opened", "counter")
+				.sample("hibernate_sessions_opened_total", stats.getSessionOpenCount());
+		out.family("hibernate_sessions_closed_total", "Sessions closed", "counter")
+				.sample("hibernate_sessions_closed_total", stats.getSessionCloseCount());
+		out.family("hibernate_transactions_total", "Transactions completed, by result", "counter")
+				.sample("hibernate_transactions_total", "result", "success", stats.getSuccessfulTransactionCount())
+				.sample("hibernate_transactions_total", "result", "failure",
+						stats.getTransactionCount() - stats.getSuccessfulTransactionCount());
+		out.family("hibernate_optimistic_failures_total", "StaleObjectStateException and OptimisticLockException",
+				"counter").sample("hibernate_optimistic_failures_total", stats.getOptimisticFailureCount());
+		out.family("hibernate_flushes_total", "Session flushes", "counter")
+				.sample("hibernate_flushes_total", stats.getFlushCount());
+		out.family("hibernate_connections_obtained_total", "JDBC connections obtained", "counter")
+				.sample("hibernate_connections_obtained_total", stats.getConnectCount());
+		out.family("hibernate_statements_total", "JDBC statements, by operation", "counter")
+				.sample("hibernate_statements_total", "operation", "prepared", stats.getPrepareStatementCount())
+				.sample("hibernate_statements_total", "operation", "closed", stats.getCloseStatementCount());
+		out.family("hibernate_entity_operations_total", "Entity operations, by kind", "counter")
+				.sample("hibernate_entity_operations_total", "operation", "load", stats.getEntityLoadCount())
+				.sample("hibernate_entity_operations_total", "operation", "fetch", stats.getEntityFetchCount())
+				.sample("hibernate_entity_operations_total", "operation", "insert", stats.getEntityInsertCount())
+				.sample("hibernate_entity_operations_total", "operation", "update", stats.getEntityUpdateCount())
+				.sample("hibernate_entity_operations_total", "operation", "delete", stats.getEntityDeleteCount());
+		out.family("hibernate_collection_operations_total", "Collection operations, by kind", "counter")
+				.sample("hibernate_collection_operations_total", "operation", "load", stats.getCollectionLoadCount())
+				.sample("hibernate_collection_operations_total", "operation", "fetch", stats.getCollectionFetchCount())
+				.sample("hibernate_collection_operations_total", "operation", "update", stats.getCollectionUpdateCount())
+				.sample("hibernate_collection_operations_total", "operation", "remove", stats.getCollectionRemoveCount())
+				.sample("hibernate_collection_operations_total", "operation", "recreate",
+						stats.getCollectionRecreateCount());
+		out.family("hibernate_query_executions_total", "HQL/SQL queries executed", "counter")
+				.sample("hibernate_query_executions_total", stats.getQueryExecutionCount());
+		out.family("hibernate_query_execution_max_seconds", "Slowest query since start", "gauge")
+				.sample("hibernate_query_execution_max_seconds", stats.getQueryExecutionMaxTime() / 1000.0);
+		out.family("hibernate_second_level_cache_requests_total", "Second level cache requests, by result", "counter")
+				.sample("hibernate_second_level_cache_requests_total", "result", "hit", stats.getSecondLevelCacheHitCount())
+				.sample("hibernate_second_level_cache_requests_total", "result", "miss",
+						stats.getSecondLevelCacheMissCount());
+		out.family("hibernate_second_level_cache_puts_total", "Second level cache puts", "counter")
+				.sample("hibernate_second_level_cache_puts_total", stats.getSecondLevelCachePutCount());
+		out.family("hibernate_query_cache_requests_total", "Query cache requests, by result", "counter")
+				.sample("hibernate_query_cache_requests_total", "result", "hit", stats.getQueryCacheHitCount())
+				.sample("hibernate_query_cache_requests_total", "result", "miss", stats.getQueryCacheMissCount());
+	}
+}
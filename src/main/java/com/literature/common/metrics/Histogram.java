@@ -0,0 +1,85 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 固定分桶的直方图, 每个桶一个LongAdder, 记录时只递增所在的桶, 输出时再按Prometheus的要求累加为"小于等于le"的计数.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class Histogram implements Metric {
+
+	/**
+	 * HTTP请求耗时的默认分桶, 单位秒
+	 */
+	public static final double[] LATENCY_BUCKETS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final double[] bounds;
+
+	/**
+	 * 比最后一个上界多一个+Inf桶
+	 */
+	private final LongAdder[] buckets;
+
+	private final DoubleAdder sum = new DoubleAdder();
+
+	/**
+	 * @param bounds 各桶的上界, 升序.
+	 */
+	public Histogram(double[] bounds) {
+		this.bounds = bounds.clone();
+		this.buckets = new LongAdder[bounds.length + 1];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	public void observe(double value) {
+		int i = 0;
+		while (i < bounds.length && value > bounds[i]) {
+			i++;
+		}
+		buckets[i].increment();
+		sum.add(value);
+	}
+
+	/**
+	 * 以秒为单位记录纳秒耗时.
+	 */
+	public void observeNanos(long nanos) {
+		observe(nanos / NANOS_PER_SECOND);
+	}
+
+	public long getCount() {
+		long count = 0;
+		for (LongAdder bucket : buckets) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+
+	public double getSum() {
+		return sum.sum();
+	}
+
+	@Override
+	public void write(PrometheusWriter out, String name, String[] labelNames, List<String> labelValues)
+			throws IOException {
+		String bucketName = name + "_bucket";
+		long cumulative = 0;
+		for (int i = 0; i < buckets.length; i++) {
+			cumulative += buckets[i].sum();
+			double le = i < bounds.length ? bounds[i] : Double.POSITIVE_INFINITY;
+			out.sample(bucketName, labelNames, labelValues, "le", PrometheusWriter.format(le), cumulative);
+		}
+		out.sample(name + "_sum", labelNames, labelValues, null, null, sum.sum());
+		out.sample(name + "_count", labelNames, labelValues, null, null, cumulative);
+	}
+}
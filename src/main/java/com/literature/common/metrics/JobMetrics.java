@@ -0,0 +1,89 @@
+package com.literature.common.metrics;
+
+/**
+ * 导出、导入任务的计数: 任务数(按结果)、处理的行数与耗时, 按任务类型与格式区分.
+ *
+ * <pre>
+ * JobMetrics.Job job = JobMetrics.startExport("xls");
+ * try {
+ *     ...
+ *     job.completed(rows);
+ * } catch (IOException e) {
+ *     job.failed(rows);
+ *     throw e;
+ * }
+ * </pre>
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class JobMetrics {
+
+	public static final String EXPORT = "export";
+
+	public static final String IMPORT = "import";
+
+	/**
+	 * 任务耗时的分桶, 单位秒
+	 */
+	private static final double[] DURATION_BUCKETS = { 0.1, 0.5, 1, 5, 10, 30, 60, 300 };
+
+	private static final MetricFamily<Counter> jobs = MetricsRegistry.getDefault().counter("app_jobs_total",
+			"Export/import jobs finished, by type, format and outcome", "type", "format", "outcome");
+
+	private static final MetricFamily<Counter> rows = MetricsRegistry.getDefault().counter("app_job_rows_total",
+			"Rows processed by export/import jobs, by type and format", "type", "format");
+
+	private static final MetricFamily<Histogram> duration = MetricsRegistry.getDefault().histogram(
+			"app_job_duration_seconds", "Export/import job duration, by type and format", DURATION_BUCKETS, "type",
+			"format");
+
+	private JobMetrics() {
+	}
+
+	public static Job startExport(String format) {
+		return new Job(EXPORT, format);
+	}
+
+	public static Job startImport(String format) {
+		return new Job(IMPORT, format);
+	}
+
+	/**
+	 * 一次任务, 结束时调用completed、aborted或failed之一.
+	 */
+	public static final class Job {
+
+		private final String type;
+
+		private final String format;
+
+		private final long start = System.nanoTime();
+
+		private Job(String type, String format) {
+			this.type = type;
+			this.format = format;
+		}
+
+		public void completed(long rowCount) {
+			finish("completed", rowCount);
+		}
+
+		/**
+		 * 客户端断开等原因提前结束.
+		 */
+		public void aborted(long rowCount) {
+			finish("aborted", rowCount);
+		}
+
+		public void failed(long rowCount) {
+			finish("failed", rowCount);
+		}
+
+		private void finish(String outcome, long rowCount) {
+			duration.labels(type, format).observeNanos(System.nanoTime() - start);
+			rows.labels(type, format).add(rowCount);
+			jobs.labels(type, format, outcome).inc();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 输出JVM的GC、内存、线程与内存分配情况.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class JvmCollector implements Collector {
+
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+	private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+	private final List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	private final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+	/**
+	 * HotSpot的ThreadMXBean, 可以取得每个线程累计分配的字节数, 其他JVM上为Null
+	 */
+	private final com.sun.management.ThreadMXBean allocation;
+
+	/**
+	 * 上次抓取时各线程已分配的字节数, 用于把存活线程的分配量累加成只增不减的计数
+	 */
+	private Map<Long, Long> lastAllocated = new HashMap<>();
+
+	private long allocatedTotal;
+
+	public JvmCollector() {
+		com.sun.management.ThreadMXBean bean = null;
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			bean = (com.sun.management.ThreadMXBean) threads;
+			if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+				bean = null;
+			}
+		}
+		this.allocation = bean;
+	}
+
+	@Override
+	public void collect(PrometheusWriter out) throws IOException {
+		out.family("jvm_gc_collections_total", "Garbage collections, by collector", "counter");
+		for (GarbageCollectorMXBean gc : collectors) {
+			out.sample("jvm_gc_collections_total", "gc", gc.getName(), gc.getCollectionCount());
+		}
+		out.family("jvm_gc_collection_seconds_total", "Time spent in garbage collection, by collector", "counter");
+		for (GarbageCollectorMXBean gc : collectors) {
+			out.sample("jvm_gc_collection_seconds_total", "gc", gc.getName(), gc.getCollectionTime() / 1000.0);
+		}
+
+		MemoryUsage heap = memory.getHeapMemoryUsage();
+		MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+		out.family("jvm_memory_used_bytes", "Used memory, by area", "gauge")
+				.sample("jvm_memory_used_bytes", "area", "heap", heap.getUsed())
+				.sample("jvm_memory_used_bytes", "area", "nonheap", nonHeap.getUsed());
+		out.family("jvm_memory_committed_bytes", "Committed memory, by area", "gauge")
+				.sample("jvm_memory_committed_bytes", "area", "heap", heap.getCommitted())
+				.sample("jvm_memory_committed_bytes", "area", "nonheap", nonHeap.getCommitted());
+		out.family("jvm_memory_max_bytes", "Maximum memory, by area, -1 when undefined", "gauge")
+				.sample("jvm_memory_max_bytes", "area", "heap", heap.getMax())
+				.sample("jvm_memory_max_bytes", "area", "nonheap", nonHeap.getMax());
+		out.family("jvm_memory_pool_used_bytes", "Used memory, by pool", "gauge");
+		for (MemoryPoolMXBean pool : pools) {
+			MemoryUsage usage = pool.getUsage();
+			if (usage != null) {
+				out.sample("jvm_memory_pool_used_bytes", "pool", pool.getName(), usage.getUsed());
+			}
+		}
+
+		out.family("jvm_threads_current", "Live threads", "gauge")
+				.sample("jvm_threads_current", threads.getThreadCount());
+		out.family("jvm_threads_daemon", "Live daemon threads", "gauge")
+				.sample("jvm_threads_daemon", threads.getDaemonThreadCount());
+		out.family("jvm_threads_peak", "Peak live threads", "gauge")
+				.sample("jvm_threads_peak", threads.getPeakThreadCount());
+		out.family("jvm_classes_loaded", "Currently loaded classes", "gauge")
+				.sample("jvm_classes_loaded", classLoading.getLoadedClassCount());
+
+		if (allocation != null) {
+			out.family("jvm_allocated_bytes_total",
+					"Bytes allocated by application threads, sampled at each scrape", "counter")
+					.sample("jvm_allocated_bytes_total", allocated());
+		}
+	}
+
+	/**
+	 * 累加各存活线程自上次抓取以来新分配的字节数; 两次抓取之间结束的线程, 其最后一段分配量不计入.
+	 */
+	private synchronized long allocated() {
+		long[] ids = threads.getAllThreadIds();
+		long[] bytes = allocation.getThreadAllocatedBytes(ids);
+		Map<Long, Long> current = new HashMap<>(ids.length * 2);
+		for (int i = 0; i < ids.length; i++) {
+			if (bytes[i] < 0) {
+				continue;
+			}
+			Long last = lastAllocated.get(ids[i]);
+			allocatedTotal += bytes[i] - (last == null ? 0 : last);
+			current.put(ids[i], bytes[i]);
+		}
+		lastAllocated = current;
+		return allocatedTotal;
+	}
+}
@@ -0,0 +1,18 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 指标族中一组标签值对应的指标.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public interface Metric {
+
+	/**
+	 * 输出样本, 不含HELP与TYPE行.
+	 */
+	void write(PrometheusWriter out, String name, String[] labelNames, List<String> labelValues) throws IOException;
+}
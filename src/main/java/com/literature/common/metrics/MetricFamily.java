@@ -0,0 +1,74 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 同名指标按标签值区分的一组指标.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class MetricFamily<T extends Metric> implements Collector {
+
+	private final String name;
+
+	private final String help;
+
+	private final String type;
+
+	private final String[] labelNames;
+
+	private final Supplier<T> factory;
+
+	private final ConcurrentMap<List<String>, T> children = new ConcurrentHashMap<>();
+
+	MetricFamily(String name, String help, String type, String[] labelNames, Supplier<T> factory) {
+		this.name = name;
+		this.help = help;
+		this.type = type;
+		this.labelNames = labelNames.clone();
+		this.factory = factory;
+	}
+
+	/**
+	 * 取得标签值对应的指标, 不存在时创建.
+	 * 热点路径上应尽量缓存返回值, 标签值固定时可以只调用一次.
+	 */
+	public T labels(String... values) {
+		if (values.length != labelNames.length) {
+			throw new IllegalArgumentException(name + " expects labels " + Arrays.toString(labelNames));
+		}
+		List<String> key = Arrays.asList(values);
+		T metric = children.get(key);
+		if (metric == null) {
+			metric = factory.get();
+			T existing = children.putIfAbsent(key, metric);
+			if (existing != null) {
+				metric = existing;
+			}
+		}
+		return metric;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	String getType() {
+		return type;
+	}
+
+	@Override
+	public void collect(PrometheusWriter out) throws IOException {
+		out.family(name, help, type);
+		for (Map.Entry<List<String>, T> entry : children.entrySet()) {
+			entry.getValue().write(out, name, labelNames, entry.getKey());
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 指标注册表, 按名称排序输出全部指标.
+ * 同名指标重复注册时返回已有的指标, 过滤器、Servlet重复初始化不会产生重复的指标族.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class MetricsRegistry {
+
+	private static final MetricsRegistry defaultRegistry = new MetricsRegistry();
+
+	private final ConcurrentMap<String, Collector> collectors = new ConcurrentSkipListMap<>();
+
+	public static MetricsRegistry getDefault() {
+		return defaultRegistry;
+	}
+
+	public MetricFamily<Counter> counter(String name, String help, String... labelNames) {
+		return family(new MetricFamily<>(name, help, "counter", labelNames, Counter::new));
+	}
+
+	public MetricFamily<Histogram> histogram(String name, String help, final double[] buckets, String... labelNames) {
+		return family(new MetricFamily<>(name, help, "histogram", labelNames, () -> new Histogram(buckets)));
+	}
+
+	/**
+	 * 注册抓取时读取的数值.
+	 */
+	public void gauge(final String name, final String help, final DoubleSupplier supplier) {
+		register(name, out -> out.family(name, help, "gauge").sample(name, supplier.getAsDouble()));
+	}
+
+	/**
+	 * 注册或替换一个抓取时执行的采集器.
+	 *
+	 * @param key 采集器的名称, 决定输出顺序.
+	 */
+	public void register(String key, Collector collector) {
+		collectors.put(key, collector);
+	}
+
+	public void unregister(String key) {
+		collectors.remove(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends Metric> MetricFamily<T> family(MetricFamily<T> family) {
+		Collector existing = collectors.putIfAbsent(family.getName(), family);
+		if (existing == null) {
+			return family;
+		}
+		if (!(existing instanceof MetricFamily) || !((MetricFamily<?>) existing).getType().equals(family.getType())) {
+			throw new IllegalArgumentException("Metric " + family.getName() + " already registered with another type");
+		}
+		return (MetricFamily<T>) existing;
+	}
+
+	public void writeTo(Appendable out) throws IOException {
+		PrometheusWriter writer = new PrometheusWriter(out);
+		for (Map.Entry<String, Collector> entry : collectors.entrySet()) {
+			entry.getValue().collect(writer);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package com.literature.common.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 按Prometheus文本格式(0.0.4)输出指标.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class PrometheusWriter {
+
+	public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	private static final String[] NO_LABELS = new String[0];
+
+	private final Appendable out;
+
+	public PrometheusWriter(Appendable out) {
+		this.out = out;
+	}
+
+	/**
+	 * 输出指标族的HELP与TYPE行.
+	 *
+	 * @param type counter、gauge、histogram或untyped.
+	 */
+	public PrometheusWriter family(String name, String help, String type) throws IOException {
+		out.append("# HELP ").append(name).append(' ');
+		escape(help, false);
+		out.append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+		return this;
+	}
+
+	/**
+	 * 输出不带标签的样本.
+	 */
+	public PrometheusWriter sample(String name, double value) throws IOException {
+		return sample(name, NO_LABELS, null, null, null, value);
+	}
+
+	/**
+	 * 输出带一个标签的样本.
+	 */
+	public PrometheusWriter sample(String name, String labelName, String labelValue, double value) throws IOException {
+		return sample(name, NO_LABELS, null, labelName, labelValue, value);
+	}
+
+	/**
+	 * 输出样本.
+	 *
+	 * @param extraName 附加在最后的标签名(如histogram的le), 为Null时没有.
+	 */
+	public PrometheusWriter sample(String name, String[] labelNames, List<String> labelValues, String extraName,
+			String extraValue, double value) throws IOException {
+		out.append(name);
+		if (labelNames.length > 0 || extraName != null) {
+			out.append('{');
+			for (int i = 0; i < labelNames.length; i++) {
+				if (i > 0) {
+					out.append(',');
+				}
+				label(labelNames[i], labelValues.get(i));
+			}
+			if (extraName != null) {
+				if (labelNames.length > 0) {
+					out.append(',');
+				}
+				label(extraName, extraValue);
+			}
+			out.append('}');
+		}
+		out.append(' ').append(format(value)).append('\n');
+		return this;
+	}
+
+	private void label(String name, String value) throws IOException {
+		out.append(name).append("=\"");
+		escape(value == null ? "" : value, true);
+		out.append('"');
+	}
+
+	private void escape(String text, boolean quote) throws IOException {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\') {
+				out.append("\\\\");
+			} else if (c == '\n') {
+				out.append("\\n");
+			} else if (c == '"' && quote) {
+				out.append("\\\"");
+			} else {
+				out.append(c);
+			}
+		}
+	}
+
+	static String format(double value) {
+		if (value == Double.POSITIVE_INFINITY) {
+			return "+Inf";
+		} else if (value == Double.NEGATIVE_INFINITY) {
+			return "-Inf";
+		} else if (Double.isNaN(value)) {
+			return "NaN";
+		} else if (value == (long) value) {
+			return Long.toString((long) value);
+		}
+		return Double.toString(value);
+	}
+}
@@ -0,0 +1,310 @@
+package com.literature.common.net;
+
+import java.util.Arrays;
+
+/**
+ * 网段集合, 判断IP地址是否属于其中任一网段(CIDR).
+ * 以压缩二叉前缀树(Patricia trie)保存, 只有分叉处才有节点, 查找次数受分叉深度限制而与网段总数无关,
+ * 每个节点只做一次128位掩码比较; 节点连续存放在long数组中, 查找时不创建对象.
+ * IPv4地址另有按前16位直接定位到子树的索引(首次查找时生成), 数万个网段时也只需访问一两个节点.
+ *
+ * IPv4网段按IPv4-mapped地址保存(前缀长度加96), 与IPv6网段可以放在同一个集合中.
+ * 非线程安全, 应在构建完成后再共享给多个线程只读使用.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class CidrTrie {
+
+	/**
+	 * 每个节点占用的long个数: 地址高64位, 低64位, 子节点下标(高32位为0分支, 低32位为1分支), 前缀长度与是否为网段
+	 */
+	private static final int STRIDE = 4;
+
+	private static final int HIGH = 0;
+
+	private static final int LOW = 1;
+
+	private static final int CHILDREN = 2;
+
+	private static final int META = 3;
+
+	/**
+	 * META中表示已添加的网段的标志位, 否则只是分叉点
+	 */
+	private static final long TERMINAL = 1L << 8;
+
+	/**
+	 * IPv4-mapped地址低64位中的高32位
+	 */
+	private static final long IPV4_MAPPED = 0xFFFFL;
+
+	/**
+	 * IPv4索引覆盖的前缀长度(按128位地址计算, 即IPv4的前16位)
+	 */
+	private static final int IPV4_INDEX_BITS = 96 + 16;
+
+	private static final int COVERED = -1;
+
+	private static final long[] HIGH_MASKS = new long[129];
+
+	private static final long[] LOW_MASKS = new long[129];
+
+	static {
+		for (int i = 0; i <= 128; i++) {
+			HIGH_MASKS[i] = i == 0 ? 0L : i >= 64 ? -1L : -1L << (64 - i);
+			LOW_MASKS[i] = i <= 64 ? 0L : i == 128 ? -1L : -1L << (128 - i);
+		}
+	}
+
+	/**
+	 * 节点数组, 下标0不使用, 子节点下标为0表示没有
+	 */
+	private long[] nodes = new long[STRIDE * 16];
+
+	private int nodeCount = 1;
+
+	private int root;
+
+	private int size;
+
+	/**
+	 * IPv4地址前16位对应的起始节点, COVERED表示已被更短的网段覆盖, 0表示不属于任何网段; 添加网段后失效
+	 */
+	private volatile int[] ipv4Index;
+
+	/**
+	 * 添加网段, 如"10.0.0.0/8"、"2001:db8::/32"; 不带前缀长度时表示单个地址.
+	 *
+	 * @throws IllegalArgumentException 格式错误.
+	 */
+	public CidrTrie add(String cidr) {
+		String text = cidr.trim();
+		int slash = text.indexOf('/');
+		IpAddress address = IpAddress.parse(text, 0, slash < 0 ? text.length() : slash);
+		if (address == null) {
+			throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+		}
+		int prefixLength;
+		if (slash < 0) {
+			prefixLength = 128;
+		} else {
+			prefixLength = parsePrefixLength(text, slash + 1);
+			if (prefixLength < 0 || prefixLength > (address.isIpv4() ? 32 : 128)) {
+				throw new IllegalArgumentException("Invalid CIDR: " + cidr);
+			}
+			if (address.isIpv4()) {
+				prefixLength += 96;
+			}
+		}
+		return add(address, prefixLength);
+	}
+
+	/**
+	 * 添加网段.
+	 *
+	 * @param prefixLength 按128位地址计算的前缀长度, IPv4网段需加96.
+	 */
+	public CidrTrie add(IpAddress address, int prefixLength) {
+		if (prefixLength < 0 || prefixLength > 128) {
+			throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+		}
+		long high = address.getHigh() & HIGH_MASKS[prefixLength];
+		long low = address.getLow() & LOW_MASKS[prefixLength];
+		ipv4Index = null;
+		if (root == 0) {
+			root = newNode(high, low, prefixLength, true);
+			size++;
+			return this;
+		}
+		int parent = 0;
+		int node = root;
+		while (true) {
+			int base = node * STRIDE;
+			int length = (int) (nodes[base + META] & 0xFF);
+			int common = commonPrefixLength(nodes[base + HIGH], nodes[base + LOW], high, low, Math.min(length, prefixLength));
+			if (common < length) {
+				// 在分歧处插入新节点, 原节点成为其子节点
+				int split = newNode(high & HIGH_MASKS[common], low & LOW_MASKS[common], common, common == prefixLength);
+				setChild(split, bit(nodes[base + HIGH], nodes[base + LOW], common), node);
+				if (common < prefixLength) {
+					setChild(split, bit(high, low, common), newNode(high, low, prefixLength, true));
+				}
+				if (parent == 0) {
+					root = split;
+				} else {
+					setChild(parent, bit(high, low, (int) (nodes[parent * STRIDE + META] & 0xFF)), split);
+				}
+				size++;
+				return this;
+			}
+			if (length == prefixLength) {
+				if ((nodes[base + META] & TERMINAL) == 0) {
+					nodes[base + META] |= TERMINAL;
+					size++;
+				}
+				return this;
+			}
+			int direction = bit(high, low, length);
+			int child = child(nodes[base + CHILDREN], direction);
+			if (child == 0) {
+				int leaf = newNode(high, low, prefixLength, true);
+				setChild(node, direction, leaf);
+				size++;
+				return this;
+			}
+			parent = node;
+			node = child;
+		}
+	}
+
+	/**
+	 * 地址是否属于任一网段, 格式错误时返回false.
+	 */
+	public boolean contains(CharSequence address) {
+		IpAddress ip = IpAddress.parse(address);
+		return ip != null && contains(ip.getHigh(), ip.getLow());
+	}
+
+	public boolean contains(IpAddress address) {
+		return address != null && contains(address.getHigh(), address.getLow());
+	}
+
+	/**
+	 * 地址是否属于任一网段.
+	 */
+	public boolean contains(long high, long low) {
+		int node = root;
+		if (high == 0L && (low >>> 32) == IPV4_MAPPED) {
+			int[] index = ipv4Index;
+			if (index == null) {
+				index = buildIpv4Index();
+			}
+			node = index[(int) (low >>> 16) & 0xFFFF];
+			if (node == COVERED) {
+				return true;
+			}
+		}
+		return walk(node, high, low);
+	}
+
+	private boolean walk(int node, long high, long low) {
+		long[] nodes = this.nodes;
+		while (node != 0) {
+			int base = node * STRIDE;
+			long meta = nodes[base + META];
+			int length = (int) (meta & 0xFF);
+			if (((high ^ nodes[base + HIGH]) & HIGH_MASKS[length]) != 0
+					|| ((low ^ nodes[base + LOW]) & LOW_MASKS[length]) != 0) {
+				return false;
+			}
+			if ((meta & TERMINAL) != 0) {
+				return true;
+			}
+			node = child(nodes[base + CHILDREN], bit(high, low, length));
+		}
+		return false;
+	}
+
+	/**
+	 * 已添加的不重复网段数.
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 为每个IPv4前16位找到查找时的起始节点: 已被不长于/16的网段覆盖时为COVERED, 否则为第一个前缀不短于/16的节点.
+	 * 多个线程可能同时生成, 结果相同, 后写入的覆盖先写入的即可.
+	 */
+	private int[] buildIpv4Index() {
+		int[] index = new int[1 << 16];
+		for (int prefix = 0; prefix < index.length; prefix++) {
+			long low = IPV4_MAPPED << 32 | (long) prefix << 16;
+			int node = root;
+			while (node != 0) {
+				int base = node * STRIDE;
+				long meta = nodes[base + META];
+				int length = (int) (meta & 0xFF);
+				int checked = Math.min(length, IPV4_INDEX_BITS);
+				if ((nodes[base + HIGH] & HIGH_MASKS[checked]) != 0 || ((low ^ nodes[base + LOW]) & LOW_MASKS[checked]) != 0) {
+					node = 0;
+					break;
+				}
+				if (length > IPV4_INDEX_BITS) {
+					break;
+				}
+				if ((meta & TERMINAL) != 0) {
+					node = COVERED;
+					break;
+				}
+				// 恰好在/16处分叉时, 下一位已不属于索引的16位, 从这个节点开始查找
+				if (length == IPV4_INDEX_BITS) {
+					break;
+				}
+				node = child(nodes[base + CHILDREN], bit(0L, low, length));
+			}
+			index[prefix] = node;
+		}
+		ipv4Index = index;
+		return index;
+	}
+
+	private int newNode(long high, long low, int length, boolean terminal) {
+		int base = nodeCount * STRIDE;
+		if (base + STRIDE > nodes.length) {
+			nodes = Arrays.copyOf(nodes, nodes.length * 2);
+		}
+		nodes[base + HIGH] = high;
+		nodes[base + LOW] = low;
+		nodes[base + META] = length | (terminal ? TERMINAL : 0L);
+		return nodeCount++;
+	}
+
+	private void setChild(int node, int direction, int child) {
+		int index = node * STRIDE + CHILDREN;
+		long children = nodes[index];
+		if (direction == 0) {
+			nodes[index] = (long) child << 32 | (children & 0xFFFFFFFFL);
+		} else {
+			nodes[index] = (children & 0xFFFFFFFF00000000L) | child;
+		}
+	}
+
+	private static int child(long children, int direction) {
+		return direction == 0 ? (int) (children >>> 32) : (int) children;
+	}
+
+	private static int parsePrefixLength(String text, int start) {
+		int length = text.length();
+		if (start == length || length - start > 3) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = start; i < length; i++) {
+			char c = text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * 第index位(从最高位0开始).
+	 */
+	private static int bit(long high, long low, int index) {
+		return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+	}
+
+	private static int commonPrefixLength(long high1, long low1, long high2, long low2, int max) {
+		long diff = high1 ^ high2;
+		int common = diff != 0 ? Long.numberOfLeadingZeros(diff) : 64 + Long.numberOfLeadingZeros(low1 ^ low2);
+		return Math.min(common, max);
+	}
+}
@@ -0,0 +1,278 @@
+package com.literature.common.net;
+
+import java.io.Serializable;
+
+/**
+ * 以两个long保存的IP地址, IPv4按IPv4-mapped IPv6(::ffff:a.b.c.d)保存, 两种地址可以统一比较与匹配网段.
+ * 解析时逐字符扫描, 不使用正则, 也不会像InetAddress.getByName那样触发DNS查询.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class IpAddress implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * IPv4-mapped地址的高64位为0, 低64位的高32位为0x0000FFFF
+	 */
+	private static final long IPV4_MAPPED_PREFIX = 0x0000FFFF00000000L;
+
+	private final long high;
+
+	private final long low;
+
+	private IpAddress(long high, long low) {
+		this.high = high;
+		this.low = low;
+	}
+
+	public static IpAddress of(long high, long low) {
+		return new IpAddress(high, low);
+	}
+
+	/**
+	 * 由32位IPv4地址创建.
+	 */
+	public static IpAddress ofIpv4(int address) {
+		return new IpAddress(0L, IPV4_MAPPED_PREFIX | (address & 0xFFFFFFFFL));
+	}
+
+	/**
+	 * 解析IPv4或IPv6地址, 格式错误时返回Null.
+	 * IPv6支持"::"缩写、末尾内嵌IPv4与"%"开头的zone id(忽略).
+	 */
+	public static IpAddress parse(CharSequence text) {
+		if (text == null) {
+			return null;
+		}
+		return parse(text, 0, text.length());
+	}
+
+	/**
+	 * 解析text中[start, end)范围内的地址, 格式错误时返回Null.
+	 */
+	public static IpAddress parse(CharSequence text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == ':') {
+				return parseIpv6(text, start, end);
+			}
+		}
+		long ipv4 = parseIpv4(text, start, end);
+		return ipv4 < 0 ? null : new IpAddress(0L, IPV4_MAPPED_PREFIX | ipv4);
+	}
+
+	/**
+	 * 解析点分十进制IPv4地址.
+	 *
+	 * @return 32位地址, 格式错误时返回-1.
+	 */
+	static long parseIpv4(CharSequence text, int start, int end) {
+		long address = 0;
+		int octets = 0;
+		int i = start;
+		while (octets < 4) {
+			int value = 0;
+			int digits = 0;
+			while (i < end && digits < 4) {
+				char c = text.charAt(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				value = value * 10 + (c - '0');
+				digits++;
+				i++;
+			}
+			if (digits == 0 || digits > 3 || value > 255) {
+				return -1;
+			}
+			address = address << 8 | value;
+			octets++;
+			if (octets < 4) {
+				if (i >= end || text.charAt(i) != '.') {
+					return -1;
+				}
+				i++;
+			}
+		}
+		return i == end ? address : -1;
+	}
+
+	private static IpAddress parseIpv6(CharSequence text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == '%') {
+				end = i;
+				break;
+			}
+		}
+		int[] groups = new int[8];
+		int count = 0;
+		// "::"所在的位置(之前的组数), -1表示没有
+		int compress = -1;
+		int i = start;
+		if (i < end && text.charAt(i) == ':') {
+			if (i + 1 >= end || text.charAt(i + 1) != ':') {
+				return null;
+			}
+			compress = 0;
+			i += 2;
+		}
+		while (i < end) {
+			if (count == 8) {
+				return null;
+			}
+			int j = i;
+			int value = 0;
+			while (j < end && j - i <= 4) {
+				int digit = Character.digit(text.charAt(j), 16);
+				if (digit < 0 || text.charAt(j) > 'f') {
+					break;
+				}
+				value = value << 4 | digit;
+				j++;
+			}
+			if (j < end && text.charAt(j) == '.') {
+				// 末尾内嵌的IPv4地址占两个组
+				long ipv4 = count <= 6 ? parseIpv4(text, i, end) : -1;
+				if (ipv4 < 0) {
+					return null;
+				}
+				groups[count++] = (int) (ipv4 >>> 16);
+				groups[count++] = (int) (ipv4 & 0xFFFF);
+				i = end;
+				break;
+			}
+			if (j == i || j - i > 4) {
+				return null;
+			}
+			groups[count++] = value;
+			i = j;
+			if (i == end) {
+				break;
+			}
+			if (text.charAt(i) != ':') {
+				return null;
+			}
+			i++;
+			if (i < end && text.charAt(i) == ':') {
+				if (compress >= 0) {
+					return null;
+				}
+				compress = count;
+				i++;
+			} else if (i == end) {
+				return null;
+			}
+		}
+		if (compress < 0 ? count != 8 : count == 8) {
+			return null;
+		}
+		long high = 0;
+		long low = 0;
+		int zeros = 8 - count;
+		for (int g = 0, k = 0; g < 8; g++) {
+			int value;
+			if (compress >= 0 && g >= compress && g < compress + zeros) {
+				value = 0;
+			} else {
+				value = groups[k++];
+			}
+			if (g < 4) {
+				high = high << 16 | value;
+			} else {
+				low = low << 16 | value;
+			}
+		}
+		return new IpAddress(high, low);
+	}
+
+	/**
+	 * 高64位.
+	 */
+	public long getHigh() {
+		return high;
+	}
+
+	/**
+	 * 低64位.
+	 */
+	public long getLow() {
+		return low;
+	}
+
+	/**
+	 * 是否为IPv4地址(IPv4-mapped).
+	 */
+	public boolean isIpv4() {
+		return high == 0L && (low & 0xFFFFFFFF00000000L) == IPV4_MAPPED_PREFIX;
+	}
+
+	/**
+	 * 是否为回环地址(127.0.0.0/8或::1).
+	 */
+	public boolean isLoopback() {
+		return isIpv4() ? (low & 0xFF000000L) == 0x7F000000L : high == 0L && low == 1L;
+	}
+
+	@Override
+	public int hashCode() {
+		long h = high * 31 + low;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof IpAddress)) {
+			return false;
+		}
+		IpAddress other = (IpAddress) obj;
+		return high == other.high && low == other.low;
+	}
+
+	/**
+	 * IPv4输出点分十进制, IPv6按RFC 5952输出(小写, 最长的连续0组缩写为"::").
+	 */
+	@Override
+	public String toString() {
+		if (isIpv4()) {
+			return ((low >>> 24) & 0xFF) + "." + ((low >>> 16) & 0xFF) + "." + ((low >>> 8) & 0xFF) + "." + (low & 0xFF);
+		}
+		int[] groups = new int[8];
+		for (int g = 0; g < 8; g++) {
+			long half = g < 4 ? high : low;
+			groups[g] = (int) (half >>> (48 - (g % 4) * 16)) & 0xFFFF;
+		}
+		int bestStart = -1;
+		int bestLength = 1;
+		for (int g = 0; g < 8;) {
+			if (groups[g] != 0) {
+				g++;
+				continue;
+			}
+			int runStart = g;
+			while (g < 8 && groups[g] == 0) {
+				g++;
+			}
+			if (g - runStart > bestLength) {
+				bestStart = runStart;
+				bestLength = g - runStart;
+			}
+		}
+		StringBuilder sb = new StringBuilder(39);
+		for (int g = 0; g < 8; g++) {
+			if (g == bestStart) {
+				sb.append("::");
+				g += bestLength - 1;
+				continue;
+			}
+			if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') {
+				sb.append(':');
+			}
+			sb.append(Integer.toHexString(groups[g]));
+		}
+		return sb.toString();
+	}
+}
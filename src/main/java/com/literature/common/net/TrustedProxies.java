@@ -0,0 +1,111 @@
+package com.literature.common.net;
+
+/**
+ * 受信任的反向代理网段, 用于从X-Forwarded-For中取得真实的客户端地址.
+ *
+ * 只有直接连接的一端(remoteAddr)是受信任代理时才读取X-Forwarded-For, 并从右向左跳过受信任的代理,
+ * 第一个不受信任的地址即为客户端; 左侧的内容由客户端自行填写, 不能直接取第一个或最后一个.
+ * 遇到无法解析的地址时停止, 返回最后一个可信的地址.
+ *
+ * 不可变, 可以被多个线程共享.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class TrustedProxies {
+
+	/**
+	 * 不信任任何代理, 始终使用remoteAddr
+	 */
+	public static final TrustedProxies NONE = new TrustedProxies(new CidrTrie());
+
+	private final CidrTrie networks;
+
+	private TrustedProxies(CidrTrie networks) {
+		this.networks = networks;
+	}
+
+	/**
+	 * 由逗号或空白分隔的网段列表创建, 如"127.0.0.1/32, ::1, 10.0.0.0/8".
+	 *
+	 * @throws IllegalArgumentException 网段格式错误.
+	 */
+	public static TrustedProxies of(String cidrs) {
+		CidrTrie networks = new CidrTrie();
+		if (cidrs != null) {
+			for (String cidr : cidrs.split("[,\\s]+")) {
+				if (!cidr.isEmpty()) {
+					networks.add(cidr);
+				}
+			}
+		}
+		return networks.isEmpty() ? NONE : new TrustedProxies(networks);
+	}
+
+	public boolean isTrusted(IpAddress address) {
+		return networks.contains(address);
+	}
+
+	/**
+	 * 取得客户端地址.
+	 *
+	 * @param remoteAddr 直接连接的一端地址, 即HttpServletRequest.getRemoteAddr().
+	 * @param forwardedFor X-Forwarded-For头, 可以为Null.
+	 * @return 无法解析remoteAddr时返回Null.
+	 */
+	public IpAddress resolve(String remoteAddr, String forwardedFor) {
+		IpAddress client = IpAddress.parse(remoteAddr);
+		if (client == null || forwardedFor == null || !networks.contains(client)) {
+			return client;
+		}
+		int end = forwardedFor.length();
+		while (end > 0) {
+			int start = forwardedFor.lastIndexOf(',', end - 1) + 1;
+			IpAddress hop = parseHop(forwardedFor, start, end);
+			if (hop == null) {
+				return client;
+			}
+			client = hop;
+			if (!networks.contains(hop)) {
+				return hop;
+			}
+			end = start - 1;
+		}
+		return client;
+	}
+
+	/**
+	 * 解析X-Forwarded-For中的一项, 去掉两端空白、IPv6的方括号及端口号.
+	 */
+	private static IpAddress parseHop(String text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (start < end && text.charAt(start) == '[') {
+			int close = text.indexOf(']', start);
+			if (close < 0 || close >= end) {
+				return null;
+			}
+			return IpAddress.parse(text, start + 1, close);
+		}
+		int colon = -1;
+		for (int i = start; i < end; i++) {
+			if (text.charAt(i) == ':') {
+				if (colon >= 0) {
+					// 多个冒号为IPv6地址, 不带方括号时不能有端口号
+					colon = -1;
+					break;
+				}
+				colon = i;
+			}
+		}
+		if (colon >= 0) {
+			// 只有一个冒号时为"IPv4:端口"
+			end = colon;
+		}
+		return IpAddress.parse(text, start, end);
+	}
+}
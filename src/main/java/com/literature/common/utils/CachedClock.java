@@ -0,0 +1,116 @@
+package com.literature.common.utils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 按固定精度缓存的当前时间, 用于审计字段、日志等高频读取当前时间字符串的场景.
+ * 读取时比较当前时间所在的时间片(当前毫秒数/精度), 时间片未变直接返回缓存的字符串, 不创建格式化对象;
+ * 时间片变化时由读取线程重新计算并整体替换, 不需要后台线程.
+ *
+ * 精度为1秒(默认)时格式化到秒的字符串与实时计算的结果一致, 精度更大时最多滞后一个精度.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class CachedClock {
+
+	private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+	private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+	private final long resolution;
+
+	private volatile Tick tick;
+
+	/**
+	 * @param resolution 精度, 单位毫秒.
+	 */
+	public CachedClock(long resolution) {
+		if (resolution <= 0) {
+			throw new IllegalArgumentException("resolution must be positive: " + resolution);
+		}
+		this.resolution = resolution;
+		long now = System.currentTimeMillis();
+		this.tick = new Tick(now, now / resolution);
+	}
+
+	/**
+	 * 当前日期字符串, 格式(yyyy-MM-dd).
+	 */
+	public String date() {
+		return current().date;
+	}
+
+	/**
+	 * 当前时间字符串, 格式(HH:mm:ss).
+	 */
+	public String time() {
+		return current().time;
+	}
+
+	/**
+	 * 当前日期和时间字符串, 格式(yyyy-MM-dd HH:mm:ss).
+	 */
+	public String dateTime() {
+		return current().dateTime;
+	}
+
+	/**
+	 * 当前时间片内首次读取时的Timestamp, 每次返回新的对象(Timestamp可修改, 不能在线程间共享).
+	 */
+	public Timestamp timestamp() {
+		return new Timestamp(current().millis);
+	}
+
+	/**
+	 * 当前时间片内首次读取时的毫秒数.
+	 */
+	public long millis() {
+		return current().millis;
+	}
+
+	public long getResolution() {
+		return resolution;
+	}
+
+	private Tick current() {
+		long now = System.currentTimeMillis();
+		long bucket = now / resolution;
+		Tick current = tick;
+		if (current.bucket != bucket) {
+			// 多个线程可能同时重新计算, 结果相同, 后写入的覆盖先写入的即可
+			current = new Tick(now, bucket);
+			tick = current;
+		}
+		return current;
+	}
+
+	/**
+	 * 一个时间片内不变的时间值.
+	 */
+	private static final class Tick {
+
+		private final long bucket;
+
+		private final long millis;
+
+		private final String date;
+
+		private final String time;
+
+		private final String dateTime;
+
+		Tick(long millis, long bucket) {
+			LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+			this.bucket = bucket;
+			this.millis = millis;
+			this.date = DATE.format(now);
+			this.time = TIME.format(now);
+			this.dateTime = date + ' ' + time;
+		}
+	}
+}
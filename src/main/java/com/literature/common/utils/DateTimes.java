@@ -0,0 +1,228 @@
+package com.literature.common.utils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * DateUtils背后基于java.time的实现.
+ * 格式化使用共享的不可变DateTimeFormatter; 解析按输入的形状一次扫描确定格式, 不依赖异常判断是否匹配;
+ * 截取到日的开始/结束直接计算, 不再格式化后重新解析.
+ *
+ * 只处理常见的规范输入, 形状不符、数值越界(原实现宽松解析时会进位)或1950年以前的日期(地方平时、历法切换等历史规则)返回"未处理",
+ * 由DateUtils退回原有实现, 保证结果不变.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+final class DateTimes {
+
+	/**
+	 * 未处理, 需要退回原有实现
+	 */
+	static final long NOT_PARSED = Long.MIN_VALUE;
+
+	static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	static final DateTimeFormatter DATE_RANDOM = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+	/**
+	 * 早于该年份时TimeZone与java.time对地方平时、历法切换的处理不同
+	 */
+	private static final int MIN_YEAR = 1950;
+
+	/**
+	 * MIN_YEAR年1月2日0时(UTC), 留出一天的时区偏移余量
+	 */
+	private static final long MIN_MILLIS = LocalDate.of(MIN_YEAR, 1, 2).toEpochDay() * 24 * 60 * 60 * 1000;
+
+	private DateTimes() {
+	}
+
+	/**
+	 * 解析"yyyy-MM-dd[ HH:mm[:ss]]"与"yyyy/MM/dd[ HH:mm[:ss]]", 月、日、时、分、秒可以是1~2位.
+	 *
+	 * @return 毫秒数, 无法处理时返回NOT_PARSED.
+	 */
+	static long parse(String text) {
+		int length = text.length();
+		if (length < 8) {
+			return NOT_PARSED;
+		}
+		int year = fixedNumber(text, 0, 4);
+		if (year < MIN_YEAR) {
+			return NOT_PARSED;
+		}
+		char separator = text.charAt(4);
+		if (separator != '-' && separator != '/') {
+			return NOT_PARSED;
+		}
+		int cursor = number(text, 5);
+		if (cursor < 0 || end(cursor) >= length || text.charAt(end(cursor)) != separator) {
+			return NOT_PARSED;
+		}
+		int month = value(cursor);
+		cursor = number(text, end(cursor) + 1);
+		if (cursor < 0) {
+			return NOT_PARSED;
+		}
+		int day = value(cursor);
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		if (end(cursor) < length) {
+			if (text.charAt(end(cursor)) != ' ') {
+				return NOT_PARSED;
+			}
+			cursor = number(text, end(cursor) + 1);
+			if (cursor < 0 || end(cursor) >= length || text.charAt(end(cursor)) != ':') {
+				return NOT_PARSED;
+			}
+			hour = value(cursor);
+			cursor = number(text, end(cursor) + 1);
+			if (cursor < 0) {
+				return NOT_PARSED;
+			}
+			minute = value(cursor);
+			if (end(cursor) < length) {
+				if (text.charAt(end(cursor)) != ':') {
+					return NOT_PARSED;
+				}
+				cursor = number(text, end(cursor) + 1);
+				if (cursor < 0 || end(cursor) != length) {
+					return NOT_PARSED;
+				}
+				second = value(cursor);
+			}
+		}
+		if (!isValidDate(year, month, day) || hour > 23 || minute > 59 || second > 59) {
+			return NOT_PARSED;
+		}
+		return toEpochMilli(LocalDateTime.of(year, month, day, hour, minute, second));
+	}
+
+	/**
+	 * 判断是否以"yyyy-MM-dd"格式的合法日期开头(与SimpleDateFormat.parse(String)一样只要求前缀匹配).
+	 *
+	 * @return 无法判断时返回Null.
+	 */
+	static Boolean isDate(String text) {
+		int length = text.length();
+		if (length < 10 || length > 10 && Character.isDigit(text.charAt(10))) {
+			return null;
+		}
+		int year = fixedNumber(text, 0, 4);
+		int month = fixedNumber(text, 5, 2);
+		int day = fixedNumber(text, 8, 2);
+		if (year < MIN_YEAR || month < 0 || day < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+			return null;
+		}
+		return Boolean.valueOf(isValidDate(year, month, day));
+	}
+
+	/**
+	 * 不含字母且至少有一个数字, 原有实现的全部格式都只由数字与分隔符组成, 不满足时一定解析失败.
+	 */
+	static boolean mayBeDate(String text) {
+		boolean digit = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isLetter(c)) {
+				return false;
+			}
+			digit |= Character.isDigit(c);
+		}
+		return digit;
+	}
+
+	/**
+	 * 当天的开始时刻(00:00:00.000), 无法处理时返回Null.
+	 */
+	static Date startOfDay(Date date) {
+		if (date.getTime() < MIN_MILLIS) {
+			return null;
+		}
+		ZoneId zone = ZoneId.systemDefault();
+		LocalDate day = Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+		return new Date(toEpochMilli(day.atStartOfDay()));
+	}
+
+	/**
+	 * 当天的结束时刻(23:59:59.000), 与原实现一样不含毫秒, 无法处理时返回Null.
+	 */
+	static Date endOfDay(Date date) {
+		if (date.getTime() < MIN_MILLIS) {
+			return null;
+		}
+		ZoneId zone = ZoneId.systemDefault();
+		LocalDate day = Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate();
+		return new Date(toEpochMilli(day.atTime(23, 59, 59)));
+	}
+
+	/**
+	 * 夏令时结束时重复的本地时间与GregorianCalendar一样取标准时间(较晚的时刻), 跳过的本地时间顺延.
+	 */
+	private static long toEpochMilli(LocalDateTime dateTime) {
+		return ZonedDateTime.ofLocal(dateTime, ZoneId.systemDefault(), null).withLaterOffsetAtOverlap().toInstant()
+				.toEpochMilli();
+	}
+
+	static String format(Date date, DateTimeFormatter formatter) {
+		return formatter.format(Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()));
+	}
+
+	private static boolean isValidDate(int year, int month, int day) {
+		return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+	}
+
+	/**
+	 * 读取固定位数的ASCII数字, 不符合时返回-1.
+	 */
+	private static int fixedNumber(String text, int start, int digits) {
+		int value = 0;
+		for (int i = start; i < start + digits; i++) {
+			char c = text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * 读取1~2位ASCII数字, 返回值高位为数值, 低16位为结束位置; 不符合时返回-1.
+	 */
+	private static int number(String text, int start) {
+		int length = text.length();
+		int value = 0;
+		int i = start;
+		while (i < length && i - start < 3) {
+			char c = text.charAt(i);
+			if (c < '0' || c > '9') {
+				break;
+			}
+			value = value * 10 + (c - '0');
+			i++;
+		}
+		int digits = i - start;
+		if (digits == 0 || digits > 2) {
+			return -1;
+		}
+		return value << 16 | i;
+	}
+
+	private static int value(int cursor) {
+		return cursor >>> 16;
+	}
+
+	private static int end(int cursor) {
+		return cursor & 0xFFFF;
+	}
+}
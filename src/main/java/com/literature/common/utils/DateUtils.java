@@ -17,12 +17,17 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	
 	private static String[] parsePatterns = { "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm", 
 		"yyyy/MM/dd", "yyyy/MM/dd HH:mm:ss", "yyyy/MM/dd HH:mm" };
+	
+	/**
+	 * 缓存的当前时间, 精度由clock.resolution配置(毫秒, 默认1000)
+	 */
+	private static final CachedClock clock = new CachedClock(Global.getSnapshot().getLong("clock.resolution", 1000));
 
 	/**
 	 * 得到当前日期字符串 格式（yyyy-MM-dd）
 	 */
 	public static String getDate() {
-		return getDate("yyyy-MM-dd");
+		return clock.date();
 	}
 	
 	/**
@@ -56,14 +61,14 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	 * 得到当前时间字符串 格式（HH:mm:ss）
 	 */
 	public static String getTime() {
-		return formatDate(new Date(), "HH:mm:ss");
+		return clock.time();
 	}
 
 	/**
 	 * 得到当前日期和时间字符串 格式（yyyy-MM-dd HH:mm:ss）
 	 */
 	public static String getDateTime() {
-		return formatDate(new Date(), "yyyy-MM-dd HH:mm:ss");
+		return clock.dateTime();
 	}
 
 	/**
@@ -98,13 +103,22 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	 * 日期型字符串转化为日期 格式
 	 * { "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm", 
 	 *   "yyyy/MM/dd", "yyyy/MM/dd HH:mm:ss", "yyyy/MM/dd HH:mm" }
+	 * 按字符串的形状直接确定格式, 不逐个尝试; 非常规的输入(如需要进位的数值)仍按原方式宽松解析.
 	 */
 	public static Date parseDate(Object str) {
 		if (str == null){
 			return null;
 		}
+		String text = str.toString();
+		long millis = DateTimes.parse(text);
+		if (millis != DateTimes.NOT_PARSED) {
+			return new Date(millis);
+		}
+		if (!DateTimes.mayBeDate(text)) {
+			return null;
+		}
 		try {
-			return parseDate(str.toString(), parsePatterns);
+			return parseDate(text, parsePatterns);
 		} catch (ParseException e) {
 			return null;
 		}
@@ -121,30 +135,38 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	}
 	
     
+	/**
+	 * 获取当天的开始时间(00:00:00)
+	 */
 	public static Date getDateStart(Date date) {
 		if(date==null) {
 			return null;
 		}
-		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-		try {
-			date= sdf.parse(formatDate(date, "yyyy-MM-dd")+" 00:00:00");
-		} catch (ParseException e) {
-			e.printStackTrace();
-		}
-		return date;
+		Date start = DateTimes.startOfDay(date);
+		return start != null ? start : parseTime(date, " 00:00:00");
 	}
 	
+	/**
+	 * 获取当天的结束时间(23:59:59)
+	 */
 	public static Date getDateEnd(Date date) {
 		if(date==null) {
 			return null;
 		}
+		Date end = DateTimes.endOfDay(date);
+		return end != null ? end : parseTime(date, " 23:59:59");
+	}
+	
+	/**
+	 * 取date当天的指定时间, 用于java.time实现无法处理的早期日期
+	 */
+	private static Date parseTime(Date date, String time) {
 		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
 		try {
-			date= sdf.parse(formatDate(date, "yyyy-MM-dd") +" 23:59:59");
+			return sdf.parse(formatDate(date, "yyyy-MM-dd") + time);
 		} catch (ParseException e) {
-			e.printStackTrace();
+			return date;
 		}
-		return date;
 	}
 	
 	/**
@@ -153,6 +175,13 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	 * @return
 	 */
 	public static boolean isDate(String timeString){
+		if (timeString == null) {
+			return false;
+		}
+		Boolean valid = DateTimes.isDate(timeString);
+		if (valid != null) {
+			return valid.booleanValue();
+		}
 		SimpleDateFormat format=new SimpleDateFormat("yyyy-MM-dd");
 		format.setLenient(false);
 		try{
@@ -169,16 +198,31 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	 * @return
 	 */
 	public static String dateFormat(Date timestamp){
-		SimpleDateFormat format=new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-		return format.format(timestamp);
+		return DateTimes.format(timestamp, DateTimes.DATE_TIME);
 	}
 	
 	/**
-	 * 获取系统时间Timestamp
+	 * 获取系统时间Timestamp, 精确到毫秒, 每次返回新的对象
 	 * @return
 	 */
 	public static Timestamp getSysTimestamp(){
-		return new Timestamp(new Date().getTime());
+		return new Timestamp(System.currentTimeMillis());
+	}
+	
+	/**
+	 * 获取缓存的系统时间Timestamp, 精度为clock.resolution, 每次返回新的对象
+	 * @return
+	 */
+	public static Timestamp timestamp(){
+		return clock.timestamp();
+	}
+	
+	/**
+	 * 获取缓存的当前时间
+	 * @return
+	 */
+	public static CachedClock getClock(){
+		return clock;
 	}
 	
 	/**
@@ -194,8 +238,7 @@ public class DateUtils extends org.apache.commons.lang3.time.DateUtils {
 	 * @return
 	 */
 	public static String getDateRandom(){
-		String s=new SimpleDateFormat("yyyyMMddHHmmssSSS").format(new Date());
-		return s;
+		return DateTimes.format(new Date(), DateTimes.DATE_RANDOM);
 	}
 	
 	/**
@@ -12,6 +12,8 @@ import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 
+import com.literature.common.metrics.JobMetrics;
+
 /**
  * 生成Excel文件的工具类
  * @author Literature
@@ -93,12 +95,19 @@ public class ExcelUtils {
      * @throws Exception
      */
     public static void export(HttpServletResponse response,String fileName,String sheetName,String[] title,String[][] content) throws Exception {
-		HSSFWorkbook wb=getHSSFWorkbook(sheetName, title, content, null);
-		setResponseHeader(response, fileName);
-		OutputStream os=response.getOutputStream();
-		wb.write(os);
-		os.flush();
-		os.close();
+		JobMetrics.Job job = JobMetrics.startExport("xls");
+		try {
+			HSSFWorkbook wb=getHSSFWorkbook(sheetName, title, content, null);
+			setResponseHeader(response, fileName);
+			OutputStream os=response.getOutputStream();
+			wb.write(os);
+			os.flush();
+			os.close();
+		} catch (Exception e) {
+			job.failed(0);
+			throw e;
+		}
+		job.completed(content.length);
     }
     
     /**
@@ -110,7 +119,14 @@ public class ExcelUtils {
      * @throws IOException
      */
     public static void exportFile(OutputStream os,String sheetName,String[] title,String[][] content) throws IOException {
-    	HSSFWorkbook wb=getHSSFWorkbook(sheetName, title, content, null);
-    	wb.write(os);
+    	JobMetrics.Job job = JobMetrics.startExport("xls");
+    	try {
+    		HSSFWorkbook wb=getHSSFWorkbook(sheetName, title, content, null);
+    		wb.write(os);
+    	} catch (IOException | RuntimeException e) {
+    		job.failed(0);
+    		throw e;
+    	}
+    	job.completed(content.length);
     }
 }
@@ -1,11 +1,16 @@
 package com.literature.common.utils;
 
-import java.util.Map;
+import java.util.Set;
 
-import com.google.common.collect.Maps;
+import com.literature.common.config.ConfigChangeListener;
+import com.literature.common.config.ConfigSnapshot;
+import com.literature.common.config.HibernateConfig;
+import com.literature.common.config.JdbcPoolConfig;
+import com.literature.common.config.ReloadableConfig;
 
 /**
  * 保存全局配置属性
+ * 配置以不可变快照的形式发布, 读取时不加锁, 属性文件修改后整体替换, 见ReloadableConfig.
  * @author Literature
  * @date 2018年10月22日
  *
@@ -13,25 +18,70 @@ import com.google.common.collect.Maps;
 public class Global {
 	
 	/**
-	 * 保存全局属性值
+	 * 全局配置, 合并application.properties与System的Property
 	 */
-	private static Map<String, String> map = Maps.newHashMap();
+	private static final ReloadableConfig config = new ReloadableConfig("application.properties");
 	
 	/**
-	 * 属性文件加载对象
+	 * 绑定好的连接池配置, 配置变化时整体替换
 	 */
-	private static PropertiesLoader propertiesLoader = new PropertiesLoader("application.properties");
+	private static volatile JdbcPoolConfig jdbcPoolConfig = JdbcPoolConfig.of(config.current());
 	
 	/**
-	 * 获取配置
+	 * 绑定好的Hibernate配置, 配置变化时整体替换
+	 */
+	private static volatile HibernateConfig hibernateConfig = HibernateConfig.of(config.current());
+	
+	static {
+		config.addListener(new ConfigChangeListener() {
+			@Override
+			public void onChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+				jdbcPoolConfig = JdbcPoolConfig.of(current);
+				hibernateConfig = HibernateConfig.of(current);
+			}
+		});
+	}
+	
+	/**
+	 * 获取配置, 取不到返回空字符串
 	 */
 	public static String getConfig(String key) {
-		String value = map.get(key);
-		if (value == null){
-			value = propertiesLoader.getProperty(key);
-			map.put(key, value);
-		}
-		return value;
+		return config.current().getString(key, "");
+	}
+
+	/**
+	 * 获取当前配置快照, 需要读取多个相关属性时应使用同一个快照
+	 */
+	public static ConfigSnapshot getSnapshot() {
+		return config.current();
+	}
+
+	/**
+	 * 获取jdbc.*与jdbc.pool.*配置
+	 */
+	public static JdbcPoolConfig getJdbcPoolConfig() {
+		return jdbcPoolConfig;
+	}
+
+	/**
+	 * 获取hibernate.*配置
+	 */
+	public static HibernateConfig getHibernateConfig() {
+		return hibernateConfig;
+	}
+
+	/**
+	 * 获取可热加载的全局配置
+	 */
+	public static ReloadableConfig getReloadableConfig() {
+		return config;
+	}
+
+	/**
+	 * 注册配置变化的监听器
+	 */
+	public static void addConfigListener(ConfigChangeListener listener) {
+		config.addListener(listener);
 	}
 
 	/**
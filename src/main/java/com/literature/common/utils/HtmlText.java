@@ -0,0 +1,384 @@
+package com.literature.common.utils;
+
+import java.nio.charset.Charset;
+
+/**
+ * StringUtils.replaceHtml/abbr背后的单遍文本处理.
+ * 一次扫描完成HTML实体解码、去除标签与按显示宽度截取, 不生成中间字符串;
+ * 字符宽度(GBK编码的字节数)预先计算为位表, 不再逐个字符编码.
+ *
+ * 结果与原实现一致: 实体解码同StringEscapeUtils.unescapeHtml4, 标签匹配同正则"<.+?>"(标签内不能换行).
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+final class HtmlText {
+
+	private static final String ELLIPSIS = "...";
+
+	private HtmlText() {
+	}
+
+	/**
+	 * 去除HTML标签, 不解码实体, 没有标签时直接返回原字符串.
+	 */
+	static String stripTags(String html) {
+		int length = html.length();
+		StringBuilder sb = null;
+		int copied = 0;
+		// 在该位置之前出现的'<'都无法匹配到'>', 不需要再向后查找
+		int failUntil = 0;
+		for (int i = 0; i < length; i++) {
+			if (html.charAt(i) != '<' || i < failUntil) {
+				continue;
+			}
+			int j = i + 1;
+			boolean matched = false;
+			for (; j < length; j++) {
+				char c = html.charAt(j);
+				if (isLineTerminator(c)) {
+					break;
+				}
+				if (c == '>' && j >= i + 2) {
+					matched = true;
+					break;
+				}
+			}
+			if (!matched) {
+				failUntil = j;
+				continue;
+			}
+			if (sb == null) {
+				sb = new StringBuilder(length);
+			}
+			sb.append(html, copied, i);
+			copied = j + 1;
+			i = j;
+		}
+		if (sb == null) {
+			return html;
+		}
+		return sb.append(html, copied, length).toString();
+	}
+
+	/**
+	 * 解码实体、去除标签后按GBK字节数截取, 超出length-3时截断并追加"...".
+	 * 解码后全部为空白字符时返回空字符串.
+	 */
+	static String abbreviate(CharSequence text, int length) {
+		Decoder decoder = new Decoder(text);
+		Decoder lookahead = null;
+		StringBuilder sb = new StringBuilder(Math.min(text.length(), Math.max(length, 0)) + ELLIPSIS.length());
+		int limit = length - 3;
+		int width = 0;
+		boolean blank = true;
+		// 已解码的字符数, 及在该位置之前出现的'<'都无法匹配到'>'
+		int count = 0;
+		int failUntil = 0;
+		boolean truncated = false;
+		while (decoder.hasNext()) {
+			char c = decoder.next();
+			count++;
+			if (blank && !Character.isWhitespace(c)) {
+				blank = false;
+			}
+			if (c == '<' && count >= failUntil) {
+				if (lookahead == null) {
+					lookahead = new Decoder(text);
+				}
+				lookahead.copyFrom(decoder);
+				int end = count;
+				int inner = 0;
+				boolean matched = false;
+				while (lookahead.hasNext()) {
+					char next = lookahead.next();
+					end++;
+					inner++;
+					if (isLineTerminator(next)) {
+						break;
+					}
+					if (next == '>' && inner >= 2) {
+						matched = true;
+						break;
+					}
+				}
+				if (matched) {
+					decoder.copyFrom(lookahead);
+					count = end;
+					continue;
+				}
+				failUntil = lookahead.hasNext() ? end : Integer.MAX_VALUE;
+			}
+			width += GbkWidth.of(c);
+			if (width <= limit) {
+				sb.append(c);
+			} else {
+				sb.append(ELLIPSIS);
+				truncated = true;
+				break;
+			}
+		}
+		if (blank && truncated) {
+			// 原实现先判断整个字符串是否为空白, 截断后还需检查剩余部分
+			while (blank && decoder.hasNext()) {
+				blank = Character.isWhitespace(decoder.next());
+			}
+		}
+		return blank ? "" : sb.toString();
+	}
+
+	/**
+	 * 与正则中"."不能匹配的行结束符一致.
+	 */
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	/**
+	 * 逐个字符输出解码后的内容, 可以复制当前位置用于向后查找.
+	 */
+	private static final class Decoder {
+
+		private final CharSequence text;
+
+		private int pos;
+
+		/**
+		 * 解码出增补字符时待输出的低位代理
+		 */
+		private char pending;
+
+		private boolean hasPending;
+
+		Decoder(CharSequence text) {
+			this.text = text;
+		}
+
+		void copyFrom(Decoder other) {
+			this.pos = other.pos;
+			this.pending = other.pending;
+			this.hasPending = other.hasPending;
+		}
+
+		boolean hasNext() {
+			return hasPending || pos < text.length();
+		}
+
+		char next() {
+			if (hasPending) {
+				hasPending = false;
+				return pending;
+			}
+			char c = text.charAt(pos);
+			if (c == '&') {
+				int decoded = Entities.named(text, pos);
+				if (decoded >= 0) {
+					pos += decoded >>> 16;
+					return (char) decoded;
+				}
+				decoded = numeric();
+				if (decoded >= 0) {
+					return (char) decoded;
+				}
+			}
+			pos++;
+			return c;
+		}
+
+		/**
+		 * 与NumericEntityUnescaper一致: &#十进制; 或 &#x十六进制;, 分号不可省略.
+		 *
+		 * @return 解码出的字符, 不是数字实体时返回-1.
+		 */
+		private int numeric() {
+			int length = text.length();
+			if (pos >= length - 2 || text.charAt(pos + 1) != '#') {
+				return -1;
+			}
+			int start = pos + 2;
+			boolean hex = false;
+			char first = text.charAt(start);
+			if (first == 'x' || first == 'X') {
+				start++;
+				hex = true;
+				if (start == length) {
+					return -1;
+				}
+			}
+			int end = start;
+			long value = 0;
+			boolean valid = true;
+			while (end < length) {
+				int digit = Character.digit(text.charAt(end), 16);
+				char c = text.charAt(end);
+				if (digit < 0 || c > 'f') {
+					break;
+				}
+				if (!hex && digit > 9) {
+					valid = false;
+				}
+				if (value <= Integer.MAX_VALUE) {
+					value = value * (hex ? 16 : 10) + digit;
+				}
+				end++;
+			}
+			if (end == length || text.charAt(end) != ';' || end == start || !valid || value > Integer.MAX_VALUE) {
+				return -1;
+			}
+			pos = end + 1;
+			if (value > 0xFFFF) {
+				char[] chars = Character.toChars((int) value);
+				pending = chars[1];
+				hasPending = true;
+				return chars[0];
+			}
+			return (int) value;
+		}
+	}
+
+	/**
+	 * unescapeHtml4支持的命名实体(HTML 4.0全部252个), 开放寻址表, 查找时不创建子字符串.
+	 */
+	private static final class Entities {
+
+		/**
+		 * 实体名以空格分隔; ISO8859_1按字符顺序对应0xA0~0xFF, 其余与对应的字符串逐个对应
+		 */
+		private static final String BASIC_NAMES = "quot amp lt gt";
+
+		private static final String BASIC_CHARS = "\"&<>";
+
+		private static final String ISO8859_1_NAMES = ""
+				+ "nbsp iexcl cent pound curren yen brvbar sect uml copy ordf laquo "
+				+ "not shy reg macr deg plusmn sup2 sup3 acute micro para middot "
+				+ "cedil sup1 ordm raquo frac14 frac12 frac34 iquest Agrave Aacute Acirc Atilde "
+				+ "Auml Aring AElig Ccedil Egrave Eacute Ecirc Euml Igrave Iacute Icirc Iuml "
+				+ "ETH Ntilde Ograve Oacute Ocirc Otilde Ouml times Oslash Ugrave Uacute Ucirc "
+				+ "Uuml Yacute THORN szlig agrave aacute acirc atilde auml aring aelig ccedil "
+				+ "egrave eacute ecirc euml igrave iacute icirc iuml eth ntilde ograve oacute "
+				+ "ocirc otilde ouml divide oslash ugrave uacute ucirc uuml yacute thorn yuml";
+
+		private static final String EXTENDED_NAMES = ""
+				+ "fnof Alpha Beta Gamma Delta Epsilon Zeta Eta Theta Iota Kappa Lambda "
+				+ "Mu Nu Xi Omicron Pi Rho Sigma Tau Upsilon Phi Chi Psi "
+				+ "Omega alpha beta gamma delta epsilon zeta eta theta iota kappa lambda "
+				+ "mu nu xi omicron pi rho sigmaf sigma tau upsilon phi chi "
+				+ "psi omega thetasym upsih piv bull hellip prime Prime oline frasl weierp "
+				+ "image real trade alefsym larr uarr rarr darr harr crarr lArr uArr "
+				+ "rArr dArr hArr forall part exist empty nabla isin notin ni prod "
+				+ "sum minus lowast radic prop infin ang and or cap cup int "
+				+ "there4 sim cong asymp ne equiv le ge sub sup nsub sube "
+				+ "supe oplus otimes perp sdot lceil rceil lfloor rfloor lang rang loz "
+				+ "spades clubs hearts diams OElig oelig Scaron scaron Yuml circ tilde ensp "
+				+ "emsp thinsp zwnj zwj lrm rlm ndash mdash lsquo rsquo sbquo ldquo "
+				+ "rdquo bdquo dagger Dagger permil lsaquo rsaquo euro";
+
+		private static final String EXTENDED_CHARS = ""
+				+ "\u0192\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039A\u039B"
+				+ "\u039C\u039D\u039E\u039F\u03A0\u03A1\u03A3\u03A4\u03A5\u03A6\u03A7\u03A8"
+				+ "\u03A9\u03B1\u03B2\u03B3\u03B4\u03B5\u03B6\u03B7\u03B8\u03B9\u03BA\u03BB"
+				+ "\u03BC\u03BD\u03BE\u03BF\u03C0\u03C1\u03C2\u03C3\u03C4\u03C5\u03C6\u03C7"
+				+ "\u03C8\u03C9\u03D1\u03D2\u03D6\u2022\u2026\u2032\u2033\u203E\u2044\u2118"
+				+ "\u2111\u211C\u2122\u2135\u2190\u2191\u2192\u2193\u2194\u21B5\u21D0\u21D1"
+				+ "\u21D2\u21D3\u21D4\u2200\u2202\u2203\u2205\u2207\u2208\u2209\u220B\u220F"
+				+ "\u2211\u2212\u2217\u221A\u221D\u221E\u2220\u2227\u2228\u2229\u222A\u222B"
+				+ "\u2234\u223C\u2245\u2248\u2260\u2261\u2264\u2265\u2282\u2283\u2284\u2286"
+				+ "\u2287\u2295\u2297\u22A5\u22C5\u2308\u2309\u230A\u230B\u2329\u232A\u25CA"
+				+ "\u2660\u2663\u2665\u2666\u0152\u0153\u0160\u0161\u0178\u02C6\u02DC\u2002"
+				+ "\u2003\u2009\u200C\u200D\u200E\u200F\u2013\u2014\u2018\u2019\u201A\u201C"
+				+ "\u201D\u201E\u2020\u2021\u2030\u2039\u203A\u20AC";
+
+		private static final int MASK = 1023;
+
+		private static final String[] names = new String[MASK + 1];
+
+		private static final char[] chars = new char[MASK + 1];
+
+		private static int maxNameLength;
+
+		static {
+			add(BASIC_NAMES, BASIC_CHARS);
+			char[] latin1 = new char[0x100 - 0xA0];
+			for (int i = 0; i < latin1.length; i++) {
+				latin1[i] = (char) (0xA0 + i);
+			}
+			add(ISO8859_1_NAMES, new String(latin1));
+			add(EXTENDED_NAMES, EXTENDED_CHARS);
+		}
+
+		/**
+		 * @return 低16位为解码出的字符, 高位为实体的长度; 不是命名实体时返回-1.
+		 */
+		static int named(CharSequence text, int pos) {
+			int limit = Math.min(text.length(), pos + maxNameLength + 2);
+			for (int semi = pos + 1; semi < limit; semi++) {
+				if (text.charAt(semi) == ';') {
+					int index = hash(text, pos + 1, semi) & MASK;
+					while (names[index] != null) {
+						if (matches(names[index], text, pos + 1, semi)) {
+							return (semi + 1 - pos) << 16 | chars[index];
+						}
+						index = (index + 1) & MASK;
+					}
+					return -1;
+				}
+			}
+			return -1;
+		}
+
+		private static void add(String nameList, String values) {
+			String[] entityNames = nameList.split(" ");
+			for (int i = 0; i < entityNames.length; i++) {
+				String name = entityNames[i];
+				int index = hash(name, 0, name.length()) & MASK;
+				while (names[index] != null) {
+					index = (index + 1) & MASK;
+				}
+				names[index] = name;
+				chars[index] = values.charAt(i);
+				maxNameLength = Math.max(maxNameLength, name.length());
+			}
+		}
+
+		private static int hash(CharSequence text, int start, int end) {
+			int h = 0;
+			for (int i = start; i < end; i++) {
+				h = 31 * h + text.charAt(i);
+			}
+			return h ^ (h >>> 10);
+		}
+
+		private static boolean matches(String name, CharSequence text, int start, int end) {
+			if (name.length() != end - start) {
+				return false;
+			}
+			for (int i = 0; i < name.length(); i++) {
+				if (name.charAt(i) != text.charAt(start + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 每个char按GBK编码的字节数(1或2), 与String.valueOf(c).getBytes("GBK").length一致, 首次使用时计算.
+	 */
+	private static final class GbkWidth {
+
+		private static final long[] doubleWidth = new long[1024];
+
+		static {
+			Charset gbk = Charset.forName("GBK");
+			for (int c = 0x80; c <= 0xFFFF; c++) {
+				if (String.valueOf((char) c).getBytes(gbk).length > 1) {
+					doubleWidth[c >>> 6] |= 1L << c;
+				}
+			}
+		}
+
+		static int of(char c) {
+			return (doubleWidth[c >>> 6] & (1L << c)) != 0 ? 2 : 1;
+		}
+	}
+}
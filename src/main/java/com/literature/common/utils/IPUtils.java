@@ -1,7 +1,17 @@
 package com.literature.common.utils;
 
+import java.util.Set;
+
 import javax.servlet.http.HttpServletRequest;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.literature.common.config.ConfigChangeListener;
+import com.literature.common.config.ConfigSnapshot;
+import com.literature.common.net.IpAddress;
+import com.literature.common.net.TrustedProxies;
+
 /**
  * 获取客户端IP
  * @author Literature
@@ -9,6 +19,63 @@ import javax.servlet.http.HttpServletRequest;
  *
  */
 public class IPUtils {
+	
+	private static Logger logger = LoggerFactory.getLogger(IPUtils.class);
+	
+	private static final String TRUSTED_PROXIES_KEY = "ip.trustedProxies";
+	
+	/**
+	 * 受信任的反向代理, 配置变化时整体替换
+	 */
+	private static volatile TrustedProxies trustedProxies = parseTrustedProxies(Global.getConfig(TRUSTED_PROXIES_KEY),
+			TrustedProxies.NONE);
+	
+	static {
+		Global.addConfigListener(new ConfigChangeListener() {
+			@Override
+			public void onChange(ConfigSnapshot previous, ConfigSnapshot current, Set<String> changedKeys) {
+				if (changedKeys.contains(TRUSTED_PROXIES_KEY)) {
+					trustedProxies = parseTrustedProxies(current.getString(TRUSTED_PROXIES_KEY, ""), trustedProxies);
+				}
+			}
+		});
+	}
+	
+	/**
+	 * 配置格式错误时记录日志并沿用fallback, 不能让类初始化失败
+	 */
+	private static TrustedProxies parseTrustedProxies(String value, TrustedProxies fallback) {
+		try {
+			return TrustedProxies.of(value);
+		} catch (IllegalArgumentException e) {
+			logger.error("Invalid " + TRUSTED_PROXIES_KEY + ", keep the previous value: " + e.getMessage());
+			return fallback;
+		}
+	}
+	
+	/**
+	 * 获取客户端地址, 只信任ip.trustedProxies中配置的代理转发的X-Forwarded-For, 不能被客户端伪造.
+	 * 用于限流、访问控制等依赖真实地址的场景.
+	 */
+	public static IpAddress getClientAddress(HttpServletRequest request) {
+		return trustedProxies.resolve(request.getRemoteAddr(), request.getHeader("X-Forwarded-For"));
+	}
+	
+	/**
+	 * 获取客户端地址字符串, IPv6按RFC 5952的规范形式输出, 无法解析时返回remoteAddr.
+	 */
+	public static String getClientIp(HttpServletRequest request) {
+		IpAddress address = getClientAddress(request);
+		return address != null ? address.toString() : request.getRemoteAddr();
+	}
+	
+	/**
+	 * 获取当前受信任的反向代理
+	 */
+	public static TrustedProxies getTrustedProxies() {
+		return trustedProxies;
+	}
+	
 	public static String getIpAddress(HttpServletRequest request) {
 		String ip = request.getHeader("x-forwarded-for");
 		if (ip == null || ip.length() == 0 || "unknown".equalsIgnoreCase(ip)) {
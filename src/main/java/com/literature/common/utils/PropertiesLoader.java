@@ -2,7 +2,6 @@ package com.literature.common.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.NoSuchElementException;
 import java.util.Properties;
 
 import org.apache.poi.util.IOUtils;
@@ -12,9 +11,13 @@ import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 
+import com.literature.common.config.ConfigSnapshot;
+import com.literature.common.config.ConfigSnapshot.Value;
+
 /**
  * Properties文件载入工具类，可载入多个properties文件。
  * 相同的属性在最后载入的文件中的值将会覆盖之前的值，但以System的Property优先.
+ * 载入时即合并System的Property并预先解析数值与布尔值, 生成不可变的ConfigSnapshot, 之后的读取不再查找System的Property或解析字符串.
  * @author Literature
  * @date 2018年10月24日
  *
@@ -27,102 +30,92 @@ public class PropertiesLoader {
 
 	private final Properties properties;
 
+	private final ConfigSnapshot snapshot;
+
 	public PropertiesLoader(String... resourcesPaths) {
 		properties = loadProperties(resourcesPaths);
+		snapshot = ConfigSnapshot.of(properties);
 	}
 
 	public Properties getProperties() {
 		return properties;
 	}
 
+	/**
+	 * 取得载入时合并System的Property后的配置快照.
+	 */
+	public ConfigSnapshot getSnapshot() {
+		return snapshot;
+	}
+
 	/**
 	 * 取出Property，但以System的Property优先,取不到返回空字符串.
 	 */
-	private String getValue(String key) {
-		String systemProperty = System.getProperty(key);
-		if (systemProperty != null) {
-			return systemProperty;
-		}
-		if (properties.containsKey(key)) {
-	        return properties.getProperty(key);
-	    }
-	    return "";
+	private Value getValue(String key) {
+		Value value = snapshot.get(key);
+		return value != null ? value : Value.EMPTY;
 	}
 
 	/**
 	 * 取出String类型的Property，但以System的Property优先,如果都为Null则抛出异常.
 	 */
 	public String getProperty(String key) {
-		String value = getValue(key);
-		if (value == null) {
-			throw new NoSuchElementException();
-		}
-		return value;
+		return getValue(key).getString();
 	}
 
 	/**
 	 * 取出String类型的Property，但以System的Property优先.如果都为Null则返回Default值.
 	 */
 	public String getProperty(String key, String defaultValue) {
-		String value = getValue(key);
-		return value != null ? value : defaultValue;
+		return snapshot.getString(key, defaultValue);
 	}
 
 	/**
 	 * 取出Integer类型的Property，但以System的Property优先.如果都为Null或内容错误则抛出异常.
 	 */
 	public Integer getInteger(String key) {
-		String value = getValue(key);
-		if (value == null) {
-			throw new NoSuchElementException();
-		}
-		return Integer.valueOf(value);
+		return getValue(key).getInteger();
 	}
 
 	/**
 	 * 取出Integer类型的Property，但以System的Property优先.如果都为Null则返回Default值，如果内容错误则抛出异常
 	 */
 	public Integer getInteger(String key, Integer defaultValue) {
-		String value = getValue(key);
-		return value != null ? Integer.valueOf(value) : defaultValue;
+		Value value = snapshot.get(key);
+		return value != null ? value.getInteger() : defaultValue;
 	}
 
 	/**
 	 * 取出Double类型的Property，但以System的Property优先.如果都为Null或内容错误则抛出异常.
 	 */
 	public Double getDouble(String key) {
-		String value = getValue(key);
-		if (value == null) {
-			throw new NoSuchElementException();
-		}
-		return Double.valueOf(value);
+		return getValue(key).getDouble();
 	}
 
 	/**
 	 * 取出Double类型的Property，但以System的Property优先.如果都为Null则返回Default值，如果内容错误则抛出异常
 	 */
 	public Double getDouble(String key, Integer defaultValue) {
-		String value = getValue(key);
-		return value != null ? Double.valueOf(value) : defaultValue;
+		Value value = snapshot.get(key);
+		if (value != null) {
+			return value.getDouble();
+		}
+		return defaultValue != null ? Double.valueOf(defaultValue.doubleValue()) : null;
 	}
 
 	/**
 	 * 取出Boolean类型的Property，但以System的Property优先.如果都为Null抛出异常,如果内容不是true/false则返回false.
 	 */
 	public Boolean getBoolean(String key) {
-		String value = getValue(key);
-		if (value == null) {
-			throw new NoSuchElementException();
-		}
-		return Boolean.valueOf(value);
+		return getValue(key).getBoolean();
 	}
 
 	/**
 	 * 取出Boolean类型的Property，但以System的Property优先.如果都为Null则返回Default值,如果内容不为true/false则返回false.
 	 */
 	public Boolean getBoolean(String key, boolean defaultValue) {
-		String value = getValue(key);
-		return value != null ? Boolean.valueOf(value) : defaultValue;
+		Value value = snapshot.get(key);
+		return value != null ? value.getBoolean() : Boolean.valueOf(defaultValue);
 	}
 
 	/**
@@ -0,0 +1,314 @@
+package com.literature.common.utils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Reflections.invokeGetter/invokeSetter背后的属性访问器缓存.
+ * 按(实际类型, 属性名)缓存编译好的访问器: public方法通过LambdaMetafactory生成Function/BiConsumer,
+ * 其余方法使用MethodHandle, 调用开销接近直接调用; 属性路径的拆分结果同样缓存.
+ *
+ * 多级属性路径逐级按中间对象的实际类型查找访问器, 与原先逐级反射调用的语义一致.
+ * JDK与容器的类型不缓存, 每次查找方法后反射调用, 见Reflections.isApplicationClass().
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+class PropertyAccessors {
+
+	private static final String SETTER_PREFIX = "set";
+
+	private static final String GETTER_PREFIX = "get";
+
+	/**
+	 * 属性路径拆分结果缓存的上限, 避免调用方传入任意路径时无限增长
+	 */
+	private static final int MAX_CACHED_PATHS = 4096;
+
+	/**
+	 * 找不到方法时缓存的占位对象
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ConcurrentMap<String, String[]> paths = new ConcurrentHashMap<String, String[]>();
+
+	private static final ClassValue<AccessorTable> tables = new ClassValue<AccessorTable>() {
+		@Override
+		protected AccessorTable computeValue(Class<?> type) {
+			return new AccessorTable(type);
+		}
+	};
+
+	/**
+	 * 拆分属性路径, 如"dept.name"拆分为["dept", "name"].
+	 */
+	static String[] split(String propertyPath) {
+		String[] names = paths.get(propertyPath);
+		if (names == null) {
+			names = StringUtils.split(propertyPath, ".");
+			if (paths.size() < MAX_CACHED_PATHS) {
+				paths.putIfAbsent(propertyPath, names);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * 调用对象的getter方法.
+	 */
+	static Object get(Object target, String name) {
+		if (target != null && !Reflections.isApplicationClass(target.getClass())) {
+			Method method = Reflections.findAccessibleMethod(target.getClass(), GETTER_PREFIX + StringUtils.capitalize(name));
+			return invoke(method, target, GETTER_PREFIX, name);
+		}
+		return getter(target, name).get(target);
+	}
+
+	/**
+	 * 调用对象的setter方法.
+	 */
+	static void set(Object target, String name, Object value) {
+		if (target != null && !Reflections.isApplicationClass(target.getClass())) {
+			Method method = Reflections.findAccessibleMethodByName(target.getClass(), SETTER_PREFIX + StringUtils.capitalize(name));
+			invoke(method, target, SETTER_PREFIX, name, value);
+			return;
+		}
+		setter(target, name).set(target, value);
+	}
+
+	/**
+	 * 不缓存的类型直接反射调用.
+	 */
+	private static Object invoke(Method method, Object target, String prefix, String name, Object... args) {
+		if (method == null) {
+			throw new IllegalArgumentException("Could not find method [" + prefix + StringUtils.capitalize(name)
+					+ "] on target [" + target + "]");
+		}
+		try {
+			return method.invoke(target, args);
+		} catch (Exception e) {
+			throw Reflections.convertReflectionExceptionToUnchecked(e);
+		}
+	}
+
+	/**
+	 * 编译单个getter方法.
+	 */
+	static Function<Object, Object> compileGetter(Method method) {
+		return new Getter(method)::get;
+	}
+
+	/**
+	 * 编译单个setter方法.
+	 */
+	static BiConsumer<Object, Object> compileSetter(Method method) {
+		return new Setter(method)::set;
+	}
+
+	private static Getter getter(Object target, String name) {
+		if (target == null) {
+			throw new NullPointerException("object can't be null");
+		}
+		Object getter = tables.get(target.getClass()).getter(name);
+		if (getter == NOT_FOUND) {
+			throw new IllegalArgumentException("Could not find method [" + GETTER_PREFIX + StringUtils.capitalize(name)
+					+ "] on target [" + target + "]");
+		}
+		return (Getter) getter;
+	}
+
+	private static Setter setter(Object target, String name) {
+		if (target == null) {
+			throw new NullPointerException("object can't be null");
+		}
+		Object setter = tables.get(target.getClass()).setter(name);
+		if (setter == NOT_FOUND) {
+			throw new IllegalArgumentException("Could not find method [" + SETTER_PREFIX + StringUtils.capitalize(name)
+					+ "] on target [" + target + "]");
+		}
+		return (Setter) setter;
+	}
+
+	/**
+	 * 单个类型的访问器表, 查找失败的结果同样缓存.
+	 */
+	private static class AccessorTable {
+
+		private final Class<?> type;
+
+		private final ConcurrentMap<String, Object> getters = new ConcurrentHashMap<String, Object>();
+
+		private final ConcurrentMap<String, Object> setters = new ConcurrentHashMap<String, Object>();
+
+		AccessorTable(Class<?> type) {
+			this.type = type;
+		}
+
+		Object getter(String name) {
+			Object getter = getters.get(name);
+			if (getter == null) {
+				Method method = Reflections.findAccessibleMethod(type, GETTER_PREFIX + StringUtils.capitalize(name));
+				getter = method == null ? NOT_FOUND : new Getter(method);
+				Object existing = getters.putIfAbsent(name, getter);
+				if (existing != null) {
+					getter = existing;
+				}
+			}
+			return getter;
+		}
+
+		Object setter(String name) {
+			Object setter = setters.get(name);
+			if (setter == null) {
+				Method method = Reflections.findAccessibleMethodByName(type, SETTER_PREFIX + StringUtils.capitalize(name));
+				setter = method == null ? NOT_FOUND : new Setter(method);
+				Object existing = setters.putIfAbsent(name, setter);
+				if (existing != null) {
+					setter = existing;
+				}
+			}
+			return setter;
+		}
+	}
+
+	/**
+	 * 编译好的getter, 方法本身抛出的异常与Method.invoke一样包装为RuntimeException.
+	 */
+	private static class Getter {
+
+		private final Function<Object, Object> function;
+
+		private final MethodHandle handle;
+
+		Getter(Method method) {
+			this.function = isPublic(method) && method.getReturnType() != void.class ? lambdaGetter(method) : null;
+			this.handle = function == null ? unreflect(method, MethodType.methodType(Object.class, Object.class)) : null;
+		}
+
+		Object get(Object target) {
+			try {
+				if (function != null) {
+					return function.apply(target);
+				}
+				return (Object) handle.invokeExact(target);
+			} catch (Throwable e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * 编译好的setter.
+	 * 参数类型不匹配(如需要基本类型的拓宽转换)或参数个数不为1时退回Method.invoke, 保持与原先反射调用相同的语义.
+	 */
+	private static class Setter {
+
+		private final Method method;
+
+		private final Class<?> valueType;
+
+		private final boolean primitive;
+
+		private final BiConsumer<Object, Object> consumer;
+
+		private final MethodHandle handle;
+
+		Setter(Method method) {
+			this.method = method;
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			if (parameterTypes.length == 1) {
+				this.primitive = parameterTypes[0].isPrimitive();
+				this.valueType = ClassUtils.primitiveToWrapper(parameterTypes[0]);
+				this.consumer = isPublic(method) ? lambdaSetter(method) : null;
+				this.handle = consumer == null
+						? unreflect(method, MethodType.methodType(void.class, Object.class, Object.class)) : null;
+			} else {
+				this.primitive = false;
+				this.valueType = null;
+				this.consumer = null;
+				this.handle = null;
+			}
+		}
+
+		void set(Object target, Object value) {
+			if (valueType != null && (value == null ? !primitive : valueType.isInstance(value))) {
+				try {
+					if (consumer != null) {
+						consumer.accept(target, value);
+					} else {
+						handle.invokeExact(target, value);
+					}
+				} catch (Throwable e) {
+					throw new RuntimeException(e);
+				}
+				return;
+			}
+			try {
+				method.invoke(target, value);
+			} catch (Exception e) {
+				throw Reflections.convertReflectionExceptionToUnchecked(e);
+			}
+		}
+	}
+
+	/**
+	 * 为public类的public方法生成Function, 目标类对本类不可见等情况下返回Null, 改用MethodHandle.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> lambdaGetter(Method method) {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class), LOOKUP.unreflect(method),
+					MethodType.methodType(ClassUtils.primitiveToWrapper(method.getReturnType()),
+							method.getDeclaringClass()));
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 为public类的public方法生成BiConsumer, 目标类对本类不可见等情况下返回Null, 改用MethodHandle.
+	 */
+	@SuppressWarnings("unchecked")
+	private static BiConsumer<Object, Object> lambdaSetter(Method method) {
+		try {
+			CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+					MethodType.methodType(void.class, Object.class, Object.class), LOOKUP.unreflect(method),
+					MethodType.methodType(void.class, method.getDeclaringClass(),
+							ClassUtils.primitiveToWrapper(method.getParameterTypes()[0])));
+			return (BiConsumer<Object, Object>) site.getTarget().invoke();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 取得方法的MethodHandle并转换为通用的Object参数类型, 方法已由Reflections设置为可访问.
+	 */
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		try {
+			return LOOKUP.unreflect(method).asType(type);
+		} catch (IllegalAccessException e) {
+			throw Reflections.convertReflectionExceptionToUnchecked(e);
+		}
+	}
+
+	private static boolean isPublic(Method method) {
+		return Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+	}
+}
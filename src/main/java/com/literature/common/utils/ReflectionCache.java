@@ -0,0 +1,144 @@
+package com.literature.common.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflections中按类型查找Field/Method/泛型参数的缓存.
+ * 以ClassValue按类型保存查找结果, 随类型一起被回收; 找不到的结果同样缓存, 读取时不加锁.
+ * 只缓存本应用加载的类型, JDK与容器的类型每次直接查找, 否则重新部署时旧的ClassLoader无法回收, 见Reflections.isApplicationClass().
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+class ReflectionCache {
+
+	/**
+	 * 查找失败时缓存的占位对象
+	 */
+	private static final Object NOT_FOUND = new Object();
+
+	private static final ClassValue<ClassInfo> infos = new ClassValue<ClassInfo>() {
+		@Override
+		protected ClassInfo computeValue(Class<?> type) {
+			return new ClassInfo();
+		}
+	};
+
+	static Field getField(Class<?> clazz, String fieldName) {
+		if (!Reflections.isApplicationClass(clazz)) {
+			return Reflections.findAccessibleField(clazz, fieldName);
+		}
+		ConcurrentMap<String, Object> fields = infos.get(clazz).fields;
+		Object field = fields.get(fieldName);
+		if (field == null) {
+			field = putIfAbsent(fields, fieldName, Reflections.findAccessibleField(clazz, fieldName));
+		}
+		return field == NOT_FOUND ? null : (Field) field;
+	}
+
+	static Method getMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+		if (!Reflections.isApplicationClass(clazz)) {
+			return Reflections.findAccessibleMethod(clazz, methodName, parameterTypes);
+		}
+		ClassInfo info = infos.get(clazz);
+		Object method;
+		if (parameterTypes == null || parameterTypes.length == 0) {
+			// 无参方法最常见, 直接以方法名为Key, 不需要创建MethodKey
+			method = info.noArgMethods.get(methodName);
+			if (method == null) {
+				method = putIfAbsent(info.noArgMethods, methodName, Reflections.findAccessibleMethod(clazz, methodName));
+			}
+		} else {
+			MethodKey key = new MethodKey(methodName, parameterTypes);
+			method = info.methods.get(key);
+			if (method == null) {
+				method = putIfAbsent(info.methods, key, Reflections.findAccessibleMethod(clazz, methodName, parameterTypes));
+			}
+		}
+		return method == NOT_FOUND ? null : (Method) method;
+	}
+
+	static Method getMethodByName(Class<?> clazz, String methodName) {
+		if (!Reflections.isApplicationClass(clazz)) {
+			return Reflections.findAccessibleMethodByName(clazz, methodName);
+		}
+		ConcurrentMap<String, Object> methods = infos.get(clazz).methodsByName;
+		Object method = methods.get(methodName);
+		if (method == null) {
+			method = putIfAbsent(methods, methodName, Reflections.findAccessibleMethodByName(clazz, methodName));
+		}
+		return method == NOT_FOUND ? null : (Method) method;
+	}
+
+	@SuppressWarnings("rawtypes")
+	static Class getGenericType(Class<?> clazz, int index) {
+		if (!Reflections.isApplicationClass(clazz)) {
+			return Reflections.findClassGenricType(clazz, index);
+		}
+		ConcurrentMap<Integer, Class> genericTypes = infos.get(clazz).genericTypes;
+		Integer key = Integer.valueOf(index);
+		Class genericType = genericTypes.get(key);
+		if (genericType == null) {
+			genericType = Reflections.findClassGenricType(clazz, index);
+			Class existing = genericTypes.putIfAbsent(key, genericType);
+			if (existing != null) {
+				genericType = existing;
+			}
+		}
+		return genericType;
+	}
+
+	private static <K> Object putIfAbsent(ConcurrentMap<K, Object> map, K key, Object value) {
+		Object cached = value == null ? NOT_FOUND : value;
+		Object existing = map.putIfAbsent(key, cached);
+		return existing != null ? existing : cached;
+	}
+
+	/**
+	 * 单个类型的查找结果
+	 */
+	@SuppressWarnings("rawtypes")
+	private static class ClassInfo {
+		private final ConcurrentMap<String, Object> fields = new ConcurrentHashMap<String, Object>();
+		private final ConcurrentMap<String, Object> noArgMethods = new ConcurrentHashMap<String, Object>();
+		private final ConcurrentMap<MethodKey, Object> methods = new ConcurrentHashMap<MethodKey, Object>();
+		private final ConcurrentMap<String, Object> methodsByName = new ConcurrentHashMap<String, Object>();
+		private final ConcurrentMap<Integer, Class> genericTypes = new ConcurrentHashMap<Integer, Class>();
+	}
+
+	/**
+	 * 方法名+参数类型
+	 */
+	private static class MethodKey {
+		private final String name;
+		private final Class<?>[] parameterTypes;
+		private final int hash;
+
+		MethodKey(String name, Class<?>[] parameterTypes) {
+			this.name = name;
+			this.parameterTypes = parameterTypes.clone();
+			this.hash = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey other = (MethodKey) obj;
+			return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+		}
+	}
+}
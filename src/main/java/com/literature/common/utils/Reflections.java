@@ -11,6 +11,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
@@ -27,10 +29,6 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class Reflections {
 	
-	private static final String SETTER_PREFIX = "set";
-
-	private static final String GETTER_PREFIX = "get";
-
 	private static final String CGLIB_CLASS_SEPARATOR = "$$";
 	
 	private static Logger logger = LoggerFactory.getLogger(Reflections.class);
@@ -38,12 +36,12 @@ public class Reflections {
 	/**
 	 * 调用Getter方法.
 	 * 支持多级，如：对象名.对象名.方法
+	 * 按(类型, 属性名)缓存编译好的访问器, 适合在表格、导出等代码中大量调用, 见PropertyAccessors.
 	 */
 	public static Object invokeGetter(Object obj, String propertyName) {
 		Object object = obj;
-		for (String name : StringUtils.split(propertyName, ".")){
-			String getterMethodName = GETTER_PREFIX + StringUtils.capitalize(name);
-			object = invokeMethod(object, getterMethodName, new Class[] {}, new Object[] {});
+		for (String name : PropertyAccessors.split(propertyName)){
+			object = PropertyAccessors.get(object, name);
 		}
 		return object;
 	}
@@ -51,21 +49,37 @@ public class Reflections {
 	/**
 	 * 调用Setter方法, 仅匹配方法名。
 	 * 支持多级，如：对象名.对象名.方法
+	 * 按(类型, 属性名)缓存编译好的访问器, 见PropertyAccessors.
 	 */
 	public static void invokeSetter(Object obj, String propertyName, Object value) {
 		Object object = obj;
-		String[] names = StringUtils.split(propertyName, ".");
+		String[] names = PropertyAccessors.split(propertyName);
 		for (int i=0; i<names.length; i++){
 			if(i<names.length-1){
-				String getterMethodName = GETTER_PREFIX + StringUtils.capitalize(names[i]);
-				object = invokeMethod(object, getterMethodName, new Class[] {}, new Object[] {});
+				object = PropertyAccessors.get(object, names[i]);
 			}else{
-				String setterMethodName = SETTER_PREFIX + StringUtils.capitalize(names[i]);
-				invokeMethodByName(object, setterMethodName, new Object[] { value });
+				PropertyAccessors.set(object, names[i], value);
 			}
 		}
 	}
 
+	/**
+	 * 将getter方法编译为Function, 供需要反复读取同一属性的代码(如BeanMapper)使用.
+	 * 方法本身抛出的异常包装为RuntimeException.
+	 */
+	public static Function<Object, Object> compileGetter(Method getter) {
+		makeAccessible(getter);
+		return PropertyAccessors.compileGetter(getter);
+	}
+
+	/**
+	 * 将setter方法编译为BiConsumer, 参数类型需要转换时与Method.invoke语义一致.
+	 */
+	public static BiConsumer<Object, Object> compileSetter(Method setter) {
+		makeAccessible(setter);
+		return PropertyAccessors.compileSetter(setter);
+	}
+
 	/**
 	 * 直接读取对象属性值, 无视private/protected修饰符, 不经过getter函数.
 	 */
@@ -147,7 +161,14 @@ public class Reflections {
 	public static Field getAccessibleField(final Object obj, final String fieldName) {
 		Validate.notNull(obj, "object can't be null");
 		Validate.notBlank(fieldName, "fieldName can't be blank");
-		for (Class<?> superClass = obj.getClass(); superClass != Object.class; superClass = superClass.getSuperclass()) {
+		return ReflectionCache.getField(obj.getClass(), fieldName);
+	}
+
+	/**
+	 * 从clazz开始循环向上转型查找DeclaredField, 不经过缓存.
+	 */
+	static Field findAccessibleField(final Class<?> clazz, final String fieldName) {
+		for (Class<?> superClass = clazz; superClass != Object.class && superClass != null; superClass = superClass.getSuperclass()) {
 			try {
 				Field field = superClass.getDeclaredField(fieldName);
 				makeAccessible(field);
@@ -172,7 +193,15 @@ public class Reflections {
 		Validate.notNull(obj, "object can't be null");
 		Validate.notBlank(methodName, "methodName can't be blank");
 
-		for (Class<?> searchType = obj.getClass(); searchType != Object.class; searchType = searchType.getSuperclass()) {
+		return ReflectionCache.getMethod(obj.getClass(), methodName, parameterTypes);
+	}
+
+	/**
+	 * 从clazz开始循环向上转型查找DeclaredMethod, 匹配函数名+参数类型, 不经过缓存.
+	 */
+	static Method findAccessibleMethod(final Class<?> clazz, final String methodName,
+			final Class<?>... parameterTypes) {
+		for (Class<?> searchType = clazz; searchType != Object.class && searchType != null; searchType = searchType.getSuperclass()) {
 			try {
 				Method method = searchType.getDeclaredMethod(methodName, parameterTypes);
 				makeAccessible(method);
@@ -196,7 +225,14 @@ public class Reflections {
 		Validate.notNull(obj, "object can't be null");
 		Validate.notBlank(methodName, "methodName can't be blank");
 
-		for (Class<?> searchType = obj.getClass(); searchType != Object.class; searchType = searchType.getSuperclass()) {
+		return ReflectionCache.getMethodByName(obj.getClass(), methodName);
+	}
+
+	/**
+	 * 从clazz开始循环向上转型查找DeclaredMethod, 只匹配函数名, 不经过缓存.
+	 */
+	static Method findAccessibleMethodByName(final Class<?> clazz, final String methodName) {
+		for (Class<?> searchType = clazz; searchType != Object.class && searchType != null; searchType = searchType.getSuperclass()) {
 			Method[] methods = searchType.getDeclaredMethods();
 			for (Method method : methods) {
 				if (method.getName().equals(methodName)) {
@@ -253,6 +289,13 @@ public class Reflections {
 	 * @return the index generic declaration, or Object.class if cannot be determined
 	 */
 	public static Class getClassGenricType(final Class clazz, final int index) {
+		return ReflectionCache.getGenericType(clazz, index);
+	}
+
+	/**
+	 * 解析clazz父类的泛型参数类型, 不经过缓存, 无法确定时只在首次解析时输出警告.
+	 */
+	static Class findClassGenricType(final Class clazz, final int index) {
 
 		Type genType = clazz.getGenericSuperclass();
 
@@ -276,6 +319,21 @@ public class Reflections {
 		return (Class) params[index];
 	}
 	
+	/**
+	 * 类型是否由本应用(即加载Reflections)的ClassLoader或其子ClassLoader加载.
+	 * 只有这样的类型才能以ClassValue缓存本应用的对象; JDK与容器的类型生命周期比应用长,
+	 * 在其上缓存的对象会持有应用的ClassLoader, 使重新部署后旧的应用无法回收.
+	 */
+	public static boolean isApplicationClass(final Class<?> clazz) {
+		ClassLoader application = Reflections.class.getClassLoader();
+		for (ClassLoader loader = clazz.getClassLoader(); loader != null; loader = loader.getParent()) {
+			if (loader == application) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public static Class<?> getUserClass(Object instance) {
 		Assert.notNull(instance, "Instance must not be null");
 		Class clazz = instance.getClass();
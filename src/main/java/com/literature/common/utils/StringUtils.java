@@ -1,11 +1,5 @@
 package com.literature.common.utils;
 
-import java.io.UnsupportedEncodingException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringEscapeUtils;
-
 /**
  * 字符串工具类, 继承org.apache.commons.lang3.StringUtils类
  * @author Literature
@@ -31,21 +25,18 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
 	}
 
 	/**
-	 * 替换掉HTML标签方法
+	 * 替换掉HTML标签方法, 与正则"<.+?>"的匹配结果一致
 	 */
 	public static String replaceHtml(String html) {
 		if (isBlank(html)){
 			return "";
 		}
-		String regEx = "<.+?>";
-		Pattern p = Pattern.compile(regEx);
-		Matcher m = p.matcher(html);
-		String s = m.replaceAll("");
-		return s;
+		return HtmlText.stripTags(html);
 	}
 
 	/**
 	 * 缩略字符串（不区分中英文字符）
+	 * 解码HTML实体、去除标签、按GBK字节数截取在一次扫描中完成, 见HtmlText
 	 * @param str 目标字符串
 	 * @param length 截取长度
 	 * @return
@@ -54,23 +45,7 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
 		if (str == null) {
 			return "";
 		}
-		try {
-			StringBuilder sb = new StringBuilder();
-			int currentLength = 0;
-			for (char c : replaceHtml(StringEscapeUtils.unescapeHtml4(str)).toCharArray()) {
-				currentLength += String.valueOf(c).getBytes("GBK").length;
-				if (currentLength <= length - 3) {
-					sb.append(c);
-				} else {
-					sb.append("...");
-					break;
-				}
-			}
-			return sb.toString();
-		} catch (UnsupportedEncodingException e) {
-			e.printStackTrace();
-		}
-		return "";
+		return HtmlText.abbreviate(str, length);
 	}
 
 	/**
@@ -84,6 +59,146 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
 	}
 		
 	
+	/**
+	 * 10的0~22次方, 均可用double精确表示
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * 尾数不超过该值时, 尾数与10的幂都能用double精确表示, 一次除法的结果即为正确舍入的值
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * 解析long, 忽略首尾空白, 小数部分直接截去; 不能解析时返回Default值.
+	 * 整数直接逐位解析, 不经过double, 不会丢失精度; 科学计数法等其他Double能解析的格式同Double.valueOf(s).longValue().
+	 * 注意: 小数按字面截去, 不先舍入为double, 如"19.9999999999999999"为19(原Double.valueOf(s).longValue()为20).
+	 */
+	public static long parseLong(CharSequence s, long defaultValue) {
+		return s == null ? defaultValue : parseLong(s, 0, s.length(), defaultValue);
+	}
+
+	/**
+	 * 解析s中[start, end)范围内的long, 不复制字符.
+	 */
+	public static long parseLong(CharSequence s, int start, int end, long defaultValue) {
+		while (start < end && s.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && s.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		int i = start;
+		boolean negative = false;
+		if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			negative = s.charAt(i) == '-';
+			i++;
+		}
+		// 以负数累加, 可以表示Long.MIN_VALUE
+		long value = 0;
+		int digits = 0;
+		for (; i < end; i++) {
+			int digit = s.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				break;
+			}
+			if (value < (Long.MIN_VALUE + digit) / 10) {
+				return (long) parseDoubleSlow(s, start, end, defaultValue);
+			}
+			value = value * 10 - digit;
+			digits++;
+		}
+		if (i < end && s.charAt(i) == '.') {
+			for (i++; i < end; i++) {
+				char c = s.charAt(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				digits++;
+			}
+		}
+		if (i != end || digits == 0 || !negative && value == Long.MIN_VALUE) {
+			return (long) parseDoubleSlow(s, start, end, defaultValue);
+		}
+		return negative ? value : -value;
+	}
+
+	/**
+	 * 解析int, 规则同parseLong, 超出int范围时与原toInteger一样按long截断.
+	 */
+	public static int parseInt(CharSequence s, int defaultValue) {
+		return (int) parseLong(s, defaultValue);
+	}
+
+	/**
+	 * 解析s中[start, end)范围内的int, 不复制字符.
+	 */
+	public static int parseInt(CharSequence s, int start, int end, int defaultValue) {
+		return (int) parseLong(s, start, end, defaultValue);
+	}
+
+	/**
+	 * 解析double, 忽略首尾空白, 结果与Double.valueOf一致; 不能解析时返回Default值.
+	 * 不超过15位有效数字的普通小数直接计算, 其余格式(科学计数法、超长小数等)交给Double.parseDouble.
+	 */
+	public static double parseDouble(CharSequence s, double defaultValue) {
+		return s == null ? defaultValue : parseDouble(s, 0, s.length(), defaultValue);
+	}
+
+	/**
+	 * 解析s中[start, end)范围内的double, 不复制字符.
+	 */
+	public static double parseDouble(CharSequence s, int start, int end, double defaultValue) {
+		while (start < end && s.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && s.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		int i = start;
+		boolean negative = false;
+		if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			negative = s.charAt(i) == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int scale = 0;
+		boolean point = false;
+		for (; i < end; i++) {
+			char c = s.charAt(i);
+			if (c == '.' && !point) {
+				point = true;
+				continue;
+			}
+			if (c < '0' || c > '9') {
+				return parseDoubleSlow(s, start, end, defaultValue);
+			}
+			mantissa = mantissa * 10 + (c - '0');
+			digits++;
+			if (point) {
+				scale++;
+			}
+			if (mantissa >= MAX_EXACT_MANTISSA || scale >= POWERS_OF_TEN.length) {
+				return parseDoubleSlow(s, start, end, defaultValue);
+			}
+		}
+		if (digits == 0) {
+			return parseDoubleSlow(s, start, end, defaultValue);
+		}
+		double value = mantissa / POWERS_OF_TEN[scale];
+		return negative ? -value : value;
+	}
+
+	private static double parseDoubleSlow(CharSequence s, int start, int end, double defaultValue) {
+		try {
+			return Double.parseDouble(s.subSequence(start, end).toString());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
 	/**
 	 * 转换为Double类型
 	 */
@@ -91,11 +206,13 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
 		if (val == null){
 			return 0D;
 		}
-		try {
-			return Double.valueOf(trim(val.toString()));
-		} catch (Exception e) {
-			return 0D;
+		if (val instanceof Double) {
+			return (Double) val;
 		}
+		if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte) {
+			return ((Number) val).doubleValue();
+		}
+		return parseDouble(val.toString(), 0D);
 	}
 
 	/**
@@ -109,7 +226,14 @@ public class StringUtils extends org.apache.commons.lang3.StringUtils {
 	 * 转换为Long类型
 	 */
 	public static Long toLong(Object val){
-		return toDouble(val).longValue();
+		if (val == null){
+			return 0L;
+		}
+		if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte
+				|| val instanceof Double) {
+			return ((Number) val).longValue();
+		}
+		return parseLong(val.toString(), 0L);
 	}
 
 	/**
@@ -0,0 +1,105 @@
+package com.literature.common.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 以反射使用JDK 21的虚拟线程, 项目仍按jdk.version(1.8)编译, 运行在低版本JDK上时isAvailable()返回false.
+ *
+ * JDK 24以前, 虚拟线程在synchronized块内阻塞时会占住载体线程(pinning), 而MySQL Connector/J 5.1的IO都在synchronized内.
+ * 同时执行JDBC的虚拟线程数受连接池maxActive限制, 因此载体线程数不少于maxActive + CPU核数即不会因pinning而饿死,
+ * 见configureScheduler.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class VirtualThreads {
+
+	private static Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+
+	private static final String PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+
+	private static final String MAX_POOL_SIZE = "jdk.virtualThreadScheduler.maxPoolSize";
+
+	/**
+	 * synchronized不再导致pinning的JDK版本(JEP 491)
+	 */
+	private static final int UNPINNED_SYNCHRONIZED_VERSION = 24;
+
+	private static final Method ofVirtual = findOfVirtual();
+
+	/**
+	 * 当前JDK是否支持虚拟线程(JDK 21及以上).
+	 */
+	public static boolean isAvailable() {
+		return ofVirtual != null;
+	}
+
+	/**
+	 * 当前JDK的主版本号, 如8、17、21.
+	 */
+	public static int javaVersion() {
+		String version = System.getProperty("java.specification.version", "1.8");
+		if (version.startsWith("1.")) {
+			version = version.substring(2);
+		}
+		return StringUtils.parseInt(version, 8);
+	}
+
+	/**
+	 * 按会被pinning的线程数设置虚拟线程调度器的载体线程数, 只能在创建第一个虚拟线程之前调用, 已设置的系统属性不会被覆盖.
+	 *
+	 * @param pinnedThreads 最多同时在synchronized内阻塞的虚拟线程数, 一般为连接池的maxActive.
+	 */
+	public static void configureScheduler(int pinnedThreads) {
+		if (javaVersion() >= UNPINNED_SYNCHRONIZED_VERSION || System.getProperty(PARALLELISM) != null) {
+			return;
+		}
+		int parallelism = pinnedThreads + Runtime.getRuntime().availableProcessors();
+		System.setProperty(PARALLELISM, String.valueOf(parallelism));
+		if (System.getProperty(MAX_POOL_SIZE) == null) {
+			System.setProperty(MAX_POOL_SIZE, String.valueOf(Math.max(256, parallelism)));
+		}
+		logger.info("Virtual thread scheduler parallelism set to " + parallelism);
+	}
+
+	/**
+	 * 创建每个任务一个虚拟线程的ExecutorService, 线程名为prefix加序号.
+	 *
+	 * @throws UnsupportedOperationException 当前JDK不支持虚拟线程.
+	 */
+	public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+		if (ofVirtual == null) {
+			throw new UnsupportedOperationException("Virtual threads require JDK 21+, current: " + javaVersion());
+		}
+		try {
+			Object builder = ofVirtual.invoke(null);
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+			ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+			Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+			return (ExecutorService) newExecutor.invoke(null, factory);
+		} catch (Exception e) {
+			throw Reflections.convertReflectionExceptionToUnchecked(e);
+		}
+	}
+
+	/**
+	 * 只查找方法不调用, 避免在configureScheduler之前初始化虚拟线程调度器.
+	 */
+	private static Method findOfVirtual() {
+		if (javaVersion() < 21) {
+			return null;
+		}
+		try {
+			return Thread.class.getMethod("ofVirtual");
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+package com.literature.common.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 自适应并发上限, 按梯度算法(与TCP Vegas同源)根据延迟调整: 短期平均延迟明显高于无负载时的延迟(观测到的最小延迟)时
+ * 说明请求开始排队, 按比例降低上限; 否则以sqrt(limit)的余量缓慢增加. 这样并发数维持在吞吐量最高的拐点附近,
+ * 过载时多出的请求被拒绝而不是排队, 延迟与吞吐量都不会崩溃.
+ *
+ * 延迟按窗口(约一个上限的请求数)取平均, 每个窗口调整一次. 无负载延迟取窗口平均延迟的最小值, 只在并发数远低于上限
+ * (此时没有排队)或上限已降到下限时才向上漂移, 使下游确实变慢后上限能够恢复, 而持续过载时基准不会被排队时间抬高.
+ *
+ * 连接池饱和(有线程在等待连接)时另外按池的容量与需求之比降低上限, 见updatePool.
+ * 超出上限的请求最多排队等待maxWait, 排队数也有上限; 优先请求可以使用保留的容量, 普通请求只能使用(1 - reserve)的部分.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class AdaptiveLimiter {
+
+	/**
+	 * 无负载延迟向上漂移的窗口数
+	 */
+	private static final int DRIFT_WINDOWS = 100;
+
+	/**
+	 * 每个窗口的最少样本数
+	 */
+	private static final int MIN_WINDOW_SAMPLES = 10;
+
+	/**
+	 * 窗口平均延迟超过无负载延迟的该倍数时才开始降低上限
+	 */
+	private static final double TOLERANCE = 1.5;
+
+	/**
+	 * 每次调整向新上限靠近的比例
+	 */
+	private static final double SMOOTHING = 0.2;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final double reserve;
+
+	private final int maxQueue;
+
+	private final AtomicInteger inflight = new AtomicInteger();
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition priorityReleased = lock.newCondition();
+
+	private final Condition normalReleased = lock.newCondition();
+
+	/**
+	 * 排队中的优先请求数, 由lock保护
+	 */
+	private int priorityWaiting;
+
+	private volatile double limit;
+
+	/**
+	 * 连接池饱和时的降低比例, 1表示未饱和
+	 */
+	private volatile double poolGradient = 1.0;
+
+	// 延迟统计, 由this保护
+	private double noLoadRtt;
+
+	private int windowSamples;
+
+	private long windowRttSum;
+
+	private int windowMaxInflight;
+
+	/**
+	 * @param initialLimit 初始并发上限.
+	 * @param minLimit 并发上限的下限.
+	 * @param maxLimit 并发上限的上限.
+	 * @param reserve 为优先请求保留的容量比例, 0~1.
+	 * @param maxQueue 同时排队的最大请求数.
+	 */
+	public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, double reserve, int maxQueue) {
+		if (minLimit < 1 || minLimit > maxLimit || reserve < 0 || reserve >= 1) {
+			throw new IllegalArgumentException("Invalid limits: min=" + minLimit + ", max=" + maxLimit + ", reserve=" + reserve);
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.reserve = reserve;
+		this.maxQueue = maxQueue;
+		this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+	}
+
+	/**
+	 * 获取一个并发许可, 超出上限时最多等待maxWait, 获取成功后必须调用release.
+	 *
+	 * @param priority 是否可以使用保留的容量.
+	 * @return 是否获取成功, 排队已满或等待超时返回false.
+	 */
+	public boolean acquire(boolean priority, long maxWait, TimeUnit unit) throws InterruptedException {
+		if (tryAcquire(priority)) {
+			return true;
+		}
+		long remaining = unit.toNanos(maxWait);
+		if (remaining <= 0 || waiting.get() >= maxQueue) {
+			return false;
+		}
+		waiting.incrementAndGet();
+		lock.lock();
+		try {
+			if (priority) {
+				priorityWaiting++;
+			}
+			try {
+				while (!tryAcquire(priority)) {
+					if (remaining <= 0) {
+						return false;
+					}
+					remaining = (priority ? priorityReleased : normalReleased).awaitNanos(remaining);
+				}
+				return true;
+			} finally {
+				if (priority) {
+					priorityWaiting--;
+				}
+			}
+		} finally {
+			lock.unlock();
+			waiting.decrementAndGet();
+		}
+	}
+
+	private boolean tryAcquire(boolean priority) {
+		double current = limit;
+		int allowed = Math.max(1, (int) (priority ? current : current * (1 - reserve)));
+		while (true) {
+			int count = inflight.get();
+			if (count >= allowed) {
+				return false;
+			}
+			if (inflight.compareAndSet(count, count + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 归还许可.
+	 *
+	 * @param rttNanos 请求的处理时间.
+	 * @param sample 是否计入延迟统计, 失败的请求延迟不具代表性, 不应计入.
+	 */
+	public void release(long rttNanos, boolean sample) {
+		int count = inflight.getAndDecrement();
+		if (sample && rttNanos > 0) {
+			update(rttNanos, count);
+		}
+		if (waiting.get() > 0) {
+			lock.lock();
+			try {
+				if (priorityWaiting > 0) {
+					priorityReleased.signal();
+				} else {
+					normalReleased.signal();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 更新连接池的使用情况, 有线程等待连接时按maxActive / (active + waiting)降低上限, 最多减半.
+	 */
+	public void updatePool(int active, int waitingThreads, int maxActive) {
+		if (waitingThreads <= 0 || maxActive <= 0) {
+			poolGradient = 1.0;
+		} else {
+			poolGradient = Math.max(0.5, Math.min(1.0, maxActive / (double) (active + waitingThreads)));
+		}
+	}
+
+	private synchronized void update(long rtt, int inflightAtRelease) {
+		double current = limit;
+		windowSamples++;
+		windowRttSum += rtt;
+		windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+		if (windowSamples < Math.max(MIN_WINDOW_SAMPLES, (int) current)) {
+			return;
+		}
+		double shortRtt = windowRttSum / (double) windowSamples;
+		int maxInflight = windowMaxInflight;
+		windowSamples = 0;
+		windowRttSum = 0;
+		windowMaxInflight = 0;
+		boolean saturated = maxInflight >= current / 2;
+		if (noLoadRtt == 0 || shortRtt < noLoadRtt) {
+			noLoadRtt = shortRtt;
+		} else if (!saturated || current <= minLimit) {
+			noLoadRtt += (shortRtt - noLoadRtt) / DRIFT_WINDOWS;
+		}
+		double pool = poolGradient;
+		// 并发数远未达到上限时延迟不反映上限是否合适, 不调整
+		if (!saturated && pool >= 1.0) {
+			return;
+		}
+		double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRtt / shortRtt));
+		gradient = Math.min(gradient, pool);
+		double target = current * gradient + (pool < 1.0 ? 0 : Math.sqrt(current));
+		double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+		limit = Math.max(minLimit, Math.min(maxLimit, next));
+	}
+
+	/**
+	 * 当前并发上限.
+	 */
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	/**
+	 * 当前处理中的请求数.
+	 */
+	public int getInflight() {
+		return inflight.get();
+	}
+
+	/**
+	 * 当前排队中的请求数.
+	 */
+	public int getWaiting() {
+		return waiting.get();
+	}
+}
@@ -0,0 +1,193 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import com.literature.common.metrics.Collector;
+import com.literature.common.metrics.MetricsRegistry;
+import com.literature.common.metrics.PrometheusWriter;
+
+/**
+ * 统计返回Callable/DeferredResult的异步请求: 开始、完成、超时、异常的次数, 处理中的请求数,
+ * Callable在执行器中的排队时间与异步处理的总耗时.
+ *
+ * 只计数不改变处理流程, 超时后仍由Spring的默认处理返回503.
+ * 全局共享一个实例, 注册到MetricsRegistry由/metrics输出; 在springmvc.xml的mvc:async-support中以getInstance()同时注册为callable-interceptors与deferred-result-interceptors.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class AsyncRequestMetrics
+		implements CallableProcessingInterceptor, DeferredResultProcessingInterceptor, Collector {
+
+	private static final String START_ATTRIBUTE = AsyncRequestMetrics.class.getName() + ".START";
+
+	private static final AsyncRequestMetrics instance = new AsyncRequestMetrics();
+
+	private final LongAdder started = new LongAdder();
+
+	private final LongAdder completed = new LongAdder();
+
+	private final LongAdder timeouts = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final LongAdder queueNanos = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	static {
+		MetricsRegistry.getDefault().register("http_async", instance);
+	}
+
+	private AsyncRequestMetrics() {
+	}
+
+	public static AsyncRequestMetrics getInstance() {
+		return instance;
+	}
+
+	@Override
+	public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+		start(request);
+	}
+
+	@Override
+	public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+		Long start = (Long) request.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (start != null) {
+			queueNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	@Override
+	public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+		if (concurrentResult instanceof Throwable) {
+			errors.increment();
+		}
+	}
+
+	@Override
+	public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+		timeouts.increment();
+		return RESULT_NONE;
+	}
+
+	@Override
+	public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+		complete(request);
+	}
+
+	@Override
+	public <T> void beforeConcurrentHandling(NativeWebRequest request, DeferredResult<T> deferredResult) {
+		start(request);
+	}
+
+	@Override
+	public <T> void preProcess(NativeWebRequest request, DeferredResult<T> deferredResult) {
+	}
+
+	@Override
+	public <T> void postProcess(NativeWebRequest request, DeferredResult<T> deferredResult, Object concurrentResult) {
+		if (concurrentResult instanceof Throwable) {
+			errors.increment();
+		}
+	}
+
+	@Override
+	public <T> boolean handleTimeout(NativeWebRequest request, DeferredResult<T> deferredResult) {
+		timeouts.increment();
+		return true;
+	}
+
+	@Override
+	public <T> void afterCompletion(NativeWebRequest request, DeferredResult<T> deferredResult) {
+		complete(request);
+	}
+
+	private void start(NativeWebRequest request) {
+		started.increment();
+		request.setAttribute(START_ATTRIBUTE, System.nanoTime(), RequestAttributes.SCOPE_REQUEST);
+	}
+
+	private void complete(NativeWebRequest request) {
+		completed.increment();
+		Long start = (Long) request.getAttribute(START_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (start != null) {
+			long elapsed = System.nanoTime() - start;
+			totalNanos.add(elapsed);
+			maxNanos.accumulateAndGet(elapsed, Math::max);
+		}
+	}
+
+	@Override
+	public void collect(PrometheusWriter out) throws IOException {
+		out.family("http_async_requests_total", "Async requests, by event", "counter")
+				.sample("http_async_requests_total", "event", "started", getStarted())
+				.sample("http_async_requests_total", "event", "completed", getCompleted())
+				.sample("http_async_requests_total", "event", "timeout", getTimeouts())
+				.sample("http_async_requests_total", "event", "error", getErrors());
+		out.family("http_async_requests_active", "Async requests in progress", "gauge")
+				.sample("http_async_requests_active", getActive());
+		out.family("http_async_queue_seconds_total", "Time Callables spent queued in the executor", "counter")
+				.sample("http_async_queue_seconds_total", getQueueNanos() / 1e9);
+		out.family("http_async_duration_seconds_total", "Total async processing time", "counter")
+				.sample("http_async_duration_seconds_total", getTotalNanos() / 1e9);
+		out.family("http_async_duration_max_seconds", "Slowest async request since start", "gauge")
+				.sample("http_async_duration_max_seconds", getMaxNanos() / 1e9);
+	}
+
+	public long getStarted() {
+		return started.sum();
+	}
+
+	public long getCompleted() {
+		return completed.sum();
+	}
+
+	/**
+	 * 处理中的异步请求数.
+	 */
+	public long getActive() {
+		return started.sum() - completed.sum();
+	}
+
+	public long getTimeouts() {
+		return timeouts.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	/**
+	 * Callable在执行器中排队的累计时间, 单位纳秒.
+	 */
+	public long getQueueNanos() {
+		return queueNanos.sum();
+	}
+
+	/**
+	 * 异步处理的累计耗时, 单位纳秒.
+	 */
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	/**
+	 * 单个异步请求的最大耗时, 单位纳秒.
+	 */
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+}
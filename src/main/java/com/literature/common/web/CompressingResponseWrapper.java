@@ -0,0 +1,390 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * CompressionFilter使用的响应包装. 先缓存前threshold个字节, 超过后再决定是否压缩:
+ * 内容类型可压缩且没有Content-Encoding时边写边压缩, 否则原样输出; 不足threshold的响应原样输出并设置Content-Length.
+ *
+ * flush在决定前不输出(避免每个小响应都因一次flush而被压缩), 压缩后flush使用SYNC_FLUSH,
+ * 已压缩的部分立即发送给客户端, NDJSON等流式响应不会被整体缓存.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+	private static final String CONTENT_LENGTH = "Content-Length";
+
+	private static final String CONTENT_ENCODING = "Content-Encoding";
+
+	/**
+	 * gzip头: magic(1f 8b), CM=8(deflate), 无FLG, MTIME=0, XFL=0, OS=255(unknown)
+	 */
+	private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	private final CompressionFilter filter;
+
+	/**
+	 * gzip或deflate
+	 */
+	private final String encoding;
+
+	private final CompressingOutputStream stream;
+
+	private PrintWriter writer;
+
+	/**
+	 * 应用设置的Content-Length, 决定是否压缩前不传给容器
+	 */
+	private long contentLength = -1;
+
+	/**
+	 * 响应中的Content-Encoding是否为本类压缩时设置的.
+	 * resetBuffer()不清除响应头, 而Servlet API不能可靠地删除响应头(Tomcat忽略setHeader(name, null)),
+	 * 所以之后重新决定时继续压缩, 不能依据containsHeader(Content-Encoding)改为原样输出.
+	 */
+	private boolean encodingSet;
+
+	CompressingResponseWrapper(HttpServletResponse response, CompressionFilter filter, String encoding) {
+		super(response);
+		this.filter = filter;
+		this.encoding = encoding;
+		this.stream = new CompressingOutputStream(filter.getThreshold());
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called");
+		}
+		return stream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(stream, Charset.forName(getCharacterEncoding())));
+		}
+		return writer;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		if (stream.state == State.PASS) {
+			super.setContentLengthLong(len);
+		} else if (stream.state == State.BUFFERING) {
+			contentLength = len;
+		}
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value != null ? Long.parseLong(value.trim()) : -1);
+		} else {
+			if (CONTENT_ENCODING.equalsIgnoreCase(name)) {
+				encodingSet = false;
+			}
+			super.setHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addHeader(String name, String value) {
+		if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(Long.parseLong(value.trim()));
+		} else {
+			if (CONTENT_ENCODING.equalsIgnoreCase(name)) {
+				encodingSet = false;
+			}
+			super.addHeader(name, value);
+		}
+	}
+
+	@Override
+	public void setIntHeader(String name, int value) {
+		if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		} else {
+			super.setIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void addIntHeader(String name, int value) {
+		if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+			setContentLengthLong(value);
+		} else {
+			super.addIntHeader(name, value);
+		}
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		stream.flush();
+		if (stream.state != State.BUFFERING) {
+			super.flushBuffer();
+		}
+	}
+
+	@Override
+	public void resetBuffer() {
+		super.resetBuffer();
+		stream.reset();
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		stream.reset();
+		contentLength = -1;
+		encodingSet = false;
+	}
+
+	/**
+	 * 输出剩余内容, 压缩时写出gzip尾部. 可重复调用.
+	 */
+	void finish() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		stream.finish();
+	}
+
+	/**
+	 * 处理出错时归还Deflater, 不再输出.
+	 */
+	void release() {
+		stream.releaseDeflater();
+	}
+
+	private enum State {
+		BUFFERING, PASS, COMPRESS, FINISHED
+	}
+
+	private final class CompressingOutputStream extends ServletOutputStream {
+
+		/**
+		 * 决定前缓存响应开头; 压缩时作为Deflater的输入缓冲, 把小的写入合并后再压缩
+		 */
+		private final byte[] buffer;
+
+		private int count;
+
+		private State state = State.BUFFERING;
+
+		private ServletOutputStream out;
+
+		private Deflater deflater;
+
+		private byte[] deflated;
+
+		private final CRC32 crc = new CRC32();
+
+		private long bytesIn;
+
+		private long bytesOut;
+
+		CompressingOutputStream(int threshold) {
+			this.buffer = new byte[Math.max(512, threshold)];
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			if (count == buffer.length) {
+				drain(false);
+			}
+			if (state == State.PASS) {
+				out.write(b);
+			} else {
+				buffer[count++] = (byte) b;
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (state == State.PASS) {
+				out.write(b, off, len);
+				return;
+			}
+			while (len > 0) {
+				if (count == buffer.length) {
+					drain(false);
+					if (state == State.PASS) {
+						out.write(b, off, len);
+						return;
+					}
+				}
+				int n = Math.min(len, buffer.length - count);
+				System.arraycopy(b, off, buffer, count, n);
+				count += n;
+				off += n;
+				len -= n;
+			}
+		}
+
+		/**
+		 * 缓冲区已满: 未决定时先决定, 压缩时把缓冲区送入Deflater.
+		 */
+		private void drain(boolean finishing) throws IOException {
+			if (state == State.BUFFERING) {
+				decide(!finishing);
+			}
+			if (state == State.PASS) {
+				out.write(buffer, 0, count);
+			} else if (state == State.COMPRESS) {
+				crc.update(buffer, 0, count);
+				bytesIn += count;
+				deflater.setInput(buffer, 0, count);
+				while (!deflater.needsInput()) {
+					deflate(Deflater.NO_FLUSH);
+				}
+			}
+			count = 0;
+		}
+
+		/**
+		 * @param large 内容超过了阈值.
+		 */
+		private void decide(boolean large) throws IOException {
+			HttpServletResponse response = (HttpServletResponse) getResponse();
+			boolean compress = encodingSet || large && (contentLength < 0 || contentLength >= buffer.length)
+					&& !response.containsHeader(CONTENT_ENCODING) && filter.isCompressible(response);
+			out = response.getOutputStream();
+			if (compress) {
+				response.setHeader(CONTENT_ENCODING, encoding);
+				encodingSet = true;
+				deflater = filter.borrowDeflater(encoding);
+				deflated = new byte[8192];
+				if (CompressionFilter.GZIP.equals(encoding)) {
+					out.write(GZIP_HEADER);
+					bytesOut += GZIP_HEADER.length;
+				}
+				state = State.COMPRESS;
+			} else {
+				if (contentLength >= 0) {
+					response.setContentLengthLong(contentLength);
+				} else if (!large && !response.isCommitted()) {
+					response.setContentLength(count);
+				}
+				state = State.PASS;
+			}
+		}
+
+		private void deflate(int flush) throws IOException {
+			int n = deflater.deflate(deflated, 0, deflated.length, flush);
+			if (n > 0) {
+				out.write(deflated, 0, n);
+				bytesOut += n;
+			}
+		}
+
+		/**
+		 * 决定前不输出; 压缩时以SYNC_FLUSH输出已写入的全部内容.
+		 */
+		@Override
+		public void flush() throws IOException {
+			if (state == State.BUFFERING || state == State.FINISHED) {
+				return;
+			}
+			if (state == State.COMPRESS) {
+				drain(false);
+				int n;
+				do {
+					n = deflater.deflate(deflated, 0, deflated.length, Deflater.SYNC_FLUSH);
+					if (n > 0) {
+						out.write(deflated, 0, n);
+						bytesOut += n;
+					}
+				} while (n == deflated.length);
+			}
+			out.flush();
+		}
+
+		void finish() throws IOException {
+			if (state == State.FINISHED) {
+				return;
+			}
+			drain(true);
+			if (state == State.COMPRESS) {
+				deflater.finish();
+				while (!deflater.finished()) {
+					deflate(Deflater.NO_FLUSH);
+				}
+				if (CompressionFilter.GZIP.equals(encoding)) {
+					writeIntLE((int) crc.getValue());
+					writeIntLE((int) bytesIn);
+					bytesOut += 8;
+				}
+				filter.recordCompressed(bytesIn, bytesOut);
+				releaseDeflater();
+			}
+			state = State.FINISHED;
+		}
+
+		private void writeIntLE(int value) throws IOException {
+			out.write(value & 0xff);
+			out.write((value >>> 8) & 0xff);
+			out.write((value >>> 16) & 0xff);
+			out.write((value >>> 24) & 0xff);
+		}
+
+		void reset() {
+			count = 0;
+			if (state == State.COMPRESS) {
+				// 容器已经清空了未提交的输出, 包括gzip头, 重新开始; Content-Encoding仍在, 见encodingSet
+				releaseDeflater();
+				crc.reset();
+				bytesIn = 0;
+				bytesOut = 0;
+			}
+			if (state != State.FINISHED) {
+				state = State.BUFFERING;
+			}
+		}
+
+		void releaseDeflater() {
+			if (deflater != null) {
+				filter.releaseDeflater(encoding, deflater);
+				deflater = null;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			finish();
+			if (out != null) {
+				out.close();
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			return out == null || out.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new UnsupportedOperationException("Non-blocking writes are not supported by CompressionFilter");
+		}
+	}
+}
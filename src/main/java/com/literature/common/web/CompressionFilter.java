@@ -0,0 +1,279 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.literature.common.metrics.Counter;
+import com.literature.common.metrics.MetricFamily;
+import com.literature.common.metrics.MetricsRegistry;
+import com.literature.common.utils.StringUtils;
+
+/**
+ * 按Accept-Encoding以gzip或deflate流式压缩响应, 边写边压缩, 不缓存整个响应体, 见CompressingResponseWrapper.
+ *
+ * 不压缩: 小于threshold字节的响应; 已有Content-Encoding的响应; excludedTypes中的内容类型(图片、压缩包、
+ * xlsx等已压缩的格式, 前缀匹配); HEAD请求与带Range头的请求. 可压缩的请求都会加上Vary: Accept-Encoding.
+ *
+ * Deflater从池中借出, 响应结束后归还. 异步请求(Callable/DeferredResult)在异步分派结束时才完成压缩.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class CompressionFilter extends OncePerRequestFilter {
+
+	static final String GZIP = "gzip";
+
+	static final String DEFLATE = "deflate";
+
+	private static final String DEFAULT_EXCLUDED_TYPES = "image/, video/, audio/, font/woff, application/zip, "
+			+ "application/gzip, application/x-gzip, application/octet-stream, application/pdf, "
+			+ "application/vnd.openxmlformats-officedocument., application/x-rar-compressed, application/x-7z-compressed";
+
+	private final MetricFamily<Counter> compressionBytes = MetricsRegistry.getDefault().counter(
+			"http_compression_bytes_total", "Bytes of compressed responses before and after compression", "stage");
+
+	private final Counter bytesIn = compressionBytes.labels("in");
+
+	private final Counter bytesOut = compressionBytes.labels("out");
+
+	private int threshold = 1024;
+
+	private int level = 5;
+
+	private int poolSize = Runtime.getRuntime().availableProcessors() * 4;
+
+	private List<String> excludedTypes = splitTypes(DEFAULT_EXCLUDED_TYPES);
+
+	private DeflaterPool gzipPool;
+
+	private DeflaterPool deflatePool;
+
+	/**
+	 * 压缩的最小响应字节数, 至少512
+	 */
+	public void setThreshold(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * 压缩级别1-9, 级别越高CPU开销越大, 5以上对JSON/HTML的压缩率提升已经很小
+	 */
+	public void setLevel(int level) {
+		this.level = level;
+	}
+
+	/**
+	 * 每种编码池中保留的Deflater数
+	 */
+	public void setPoolSize(int poolSize) {
+		this.poolSize = poolSize;
+	}
+
+	public void setExcludedTypes(String excludedTypes) {
+		this.excludedTypes = splitTypes(excludedTypes);
+	}
+
+	@Override
+	protected void initFilterBean() throws ServletException {
+		gzipPool = new DeflaterPool(level, true, poolSize);
+		deflatePool = new DeflaterPool(level, false, poolSize);
+		logger.info("Compression threshold=" + threshold + ", level=" + level + ", excludedTypes=" + excludedTypes);
+	}
+
+	/**
+	 * 异步分派时需要再次进入, 在请求真正结束时完成压缩.
+	 */
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		CompressingResponseWrapper existing = WebUtils.getNativeResponse(response, CompressingResponseWrapper.class);
+		if (existing != null) {
+			// 异步分派, 响应已经被包装
+			proceed(request, response, filterChain, existing);
+			return;
+		}
+		String encoding = negotiate(request.getHeader("Accept-Encoding"));
+		if (encoding == null || "HEAD".equals(request.getMethod()) || request.getHeader("Range") != null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		response.addHeader("Vary", "Accept-Encoding");
+		CompressingResponseWrapper wrapper = new CompressingResponseWrapper(response, this, encoding);
+		proceed(request, wrapper, filterChain, wrapper);
+	}
+
+	private void proceed(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+			final CompressingResponseWrapper wrapper) throws ServletException, IOException {
+		boolean completed = false;
+		try {
+			filterChain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				// 未经分派直接complete的异步请求在结束时完成压缩, 经过分派的在上面的分支中完成
+				request.getAsyncContext().addListener(new FinishOnComplete(wrapper));
+			} else {
+				wrapper.finish();
+			}
+			completed = true;
+		} finally {
+			if (!completed) {
+				wrapper.release();
+			}
+		}
+	}
+
+	/**
+	 * 按Accept-Encoding选择编码, 同时接受时优先gzip, q=0表示不接受.
+	 * "*"只作用于没有单独列出的编码, 如"gzip;q=0, *"不返回gzip.
+	 *
+	 * @return gzip、deflate或Null(不压缩).
+	 */
+	static String negotiate(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return null;
+		}
+		// null表示未单独列出, 由"*"决定
+		Boolean gzip = null;
+		Boolean deflate = null;
+		boolean any = false;
+		int start = 0;
+		int length = acceptEncoding.length();
+		while (start < length) {
+			int end = acceptEncoding.indexOf(',', start);
+			if (end < 0) {
+				end = length;
+			}
+			int semicolon = acceptEncoding.indexOf(';', start);
+			int nameEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+			String name = acceptEncoding.substring(start, nameEnd).trim();
+			boolean accepted = nameEnd == end || quality(acceptEncoding, nameEnd + 1, end) > 0;
+			if (GZIP.equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+				gzip = accepted;
+			} else if (DEFLATE.equalsIgnoreCase(name)) {
+				deflate = accepted;
+			} else if ("*".equals(name)) {
+				any = accepted;
+			}
+			start = end + 1;
+		}
+		if (gzip != null ? gzip : any) {
+			return GZIP;
+		}
+		return (deflate != null ? deflate : any) ? DEFLATE : null;
+	}
+
+	/**
+	 * 解析";q=0.5"形式的参数, 没有q参数时为1.
+	 */
+	private static double quality(String header, int start, int end) {
+		String params = header.substring(start, end).trim();
+		if (!params.startsWith("q=") && !params.startsWith("Q=")) {
+			return 1;
+		}
+		try {
+			return Double.parseDouble(params.substring(2).trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	boolean isCompressible(HttpServletResponse response) {
+		int status = response.getStatus();
+		if (status == HttpServletResponse.SC_NO_CONTENT || status == HttpServletResponse.SC_NOT_MODIFIED) {
+			return false;
+		}
+		String contentType = response.getContentType();
+		if (contentType == null) {
+			return false;
+		}
+		contentType = contentType.toLowerCase(Locale.ENGLISH);
+		for (String excluded : excludedTypes) {
+			if (contentType.startsWith(excluded)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	int getThreshold() {
+		return threshold;
+	}
+
+	Deflater borrowDeflater(String encoding) {
+		return (GZIP.equals(encoding) ? gzipPool : deflatePool).borrow();
+	}
+
+	void releaseDeflater(String encoding, Deflater deflater) {
+		(GZIP.equals(encoding) ? gzipPool : deflatePool).release(deflater);
+	}
+
+	void recordCompressed(long in, long out) {
+		bytesIn.add(in);
+		bytesOut.add(out);
+	}
+
+	private static List<String> splitTypes(String types) {
+		List<String> result = new ArrayList<String>();
+		if (types == null) {
+			return result;
+		}
+		for (String type : StringUtils.split(types, ", \t\r\n")) {
+			result.add(type.toLowerCase(Locale.ENGLISH));
+		}
+		return result;
+	}
+
+	/**
+	 * 异步请求结束时完成压缩, 出错时只归还Deflater.
+	 */
+	private static final class FinishOnComplete implements AsyncListener {
+
+		private final CompressingResponseWrapper wrapper;
+
+		private volatile boolean failed;
+
+		FinishOnComplete(CompressingResponseWrapper wrapper) {
+			this.wrapper = wrapper;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) throws IOException {
+			if (failed) {
+				wrapper.release();
+			} else {
+				wrapper.finish();
+			}
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			failed = true;
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.literature.common.web;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Deflater池. 每个Deflater持有约几百KB的本地内存, 按请求创建再等待finalize释放代价较高,
+ * 用完reset后放回池中复用, 池满时立即end释放本地内存.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+final class DeflaterPool {
+
+	private final int level;
+
+	/**
+	 * true时输出不带zlib头的原始deflate数据(gzip使用), false时为zlib格式(HTTP的deflate编码)
+	 */
+	private final boolean nowrap;
+
+	private final BlockingQueue<Deflater> idle;
+
+	DeflaterPool(int level, boolean nowrap, int maxIdle) {
+		this.level = level;
+		this.nowrap = nowrap;
+		this.idle = new ArrayBlockingQueue<Deflater>(maxIdle);
+	}
+
+	Deflater borrow() {
+		Deflater deflater = idle.poll();
+		return deflater != null ? deflater : new Deflater(level, nowrap);
+	}
+
+	void release(Deflater deflater) {
+		deflater.reset();
+		if (!idle.offer(deflater)) {
+			deflater.end();
+		}
+	}
+}
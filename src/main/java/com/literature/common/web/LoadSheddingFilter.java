@@ -0,0 +1,264 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.WebApplicationContextUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.literature.common.metrics.Counter;
+import com.literature.common.metrics.MetricsRegistry;
+import com.literature.common.utils.Global;
+import com.literature.common.utils.ServletUtils;
+import com.literature.common.utils.StringUtils;
+
+/**
+ * 按自适应并发上限做准入控制, 见AdaptiveLimiter. 超出上限的请求短暂排队, 超时后返回503与Retry-After,
+ * 不让线程堵在DruidDataSource.getConnection上直到超时.
+ *
+ * 上限根据请求延迟与Druid连接池的使用中、等待中的连接数调整, 初始值与连接池的maxActive相同.
+ * priorityRoutes中的请求可以使用保留的容量(reserve), 过载时仍能处理; excludeRoutes中的请求不受限制.
+ * 路径均为逗号分隔的Ant风格路径.
+ *
+ * 异步处理(Callable/DeferredResult)的请求在异步完成时才归还许可, 等待数据库的时间同样计入并发数与延迟.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+	/**
+	 * 读取连接池状态的最小间隔
+	 */
+	private static final long POOL_SAMPLE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+	private final AtomicLong lastPoolSample = new AtomicLong(System.nanoTime());
+
+	private final Counter shed = MetricsRegistry.getDefault().counter("http_load_shed_total",
+			"Requests rejected with 503 by the concurrency limit").labels();
+
+	private int initialLimit = Global.getJdbcPoolConfig().getMaxActive();
+
+	private int minLimit = 4;
+
+	private int maxLimit = initialLimit * 4;
+
+	private double reserve = 0.2;
+
+	private int maxQueue = initialLimit;
+
+	private long maxWaitMillis = 50;
+
+	private List<String> priorityRoutes = Collections.emptyList();
+
+	private List<String> excludeRoutes = Collections.emptyList();
+
+	private AdaptiveLimiter limiter;
+
+	private DruidDataSource dataSource;
+
+	public void setInitialLimit(int initialLimit) {
+		this.initialLimit = initialLimit;
+	}
+
+	public void setMinLimit(int minLimit) {
+		this.minLimit = minLimit;
+	}
+
+	public void setMaxLimit(int maxLimit) {
+		this.maxLimit = maxLimit;
+	}
+
+	public void setReserve(double reserve) {
+		this.reserve = reserve;
+	}
+
+	public void setMaxQueue(int maxQueue) {
+		this.maxQueue = maxQueue;
+	}
+
+	public void setMaxWaitMillis(long maxWaitMillis) {
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	public void setPriorityRoutes(String priorityRoutes) {
+		this.priorityRoutes = splitRoutes(priorityRoutes);
+	}
+
+	public void setExcludeRoutes(String excludeRoutes) {
+		this.excludeRoutes = splitRoutes(excludeRoutes);
+	}
+
+	@Override
+	protected void initFilterBean() throws ServletException {
+		limiter = new AdaptiveLimiter(initialLimit, minLimit, maxLimit, reserve, maxQueue);
+		WebApplicationContext context = WebApplicationContextUtils.getWebApplicationContext(getServletContext());
+		if (context != null) {
+			Map<String, DruidDataSource> dataSources = context.getBeansOfType(DruidDataSource.class);
+			if (dataSources.size() == 1) {
+				dataSource = dataSources.values().iterator().next();
+			}
+		}
+		MetricsRegistry registry = MetricsRegistry.getDefault();
+		final AdaptiveLimiter current = limiter;
+		registry.gauge("http_concurrency_limit", "Current adaptive concurrency limit", () -> current.getLimit());
+		registry.gauge("http_concurrency_inflight", "Requests holding a permit", () -> current.getInflight());
+		registry.gauge("http_concurrency_waiting", "Requests queued for a permit", () -> current.getWaiting());
+		logger.info("Load shedding initialLimit=" + initialLimit + ", priorityRoutes=" + priorityRoutes
+				+ ", pool=" + (dataSource != null));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String path = urlPathHelper.getPathWithinApplication(request);
+		if (matches(excludeRoutes, path)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		samplePool();
+		boolean admitted;
+		try {
+			admitted = limiter.acquire(matches(priorityRoutes, path), maxWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admitted = false;
+		}
+		if (!admitted) {
+			shed.inc();
+			reject(response);
+			return;
+		}
+		long start = System.nanoTime();
+		boolean success = false;
+		boolean async = false;
+		try {
+			filterChain.doFilter(request, response);
+			if (request.isAsyncStarted()) {
+				// 异步处理时请求仍在进行, 完成后再归还许可
+				request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+				async = true;
+			}
+			success = response.getStatus() < 500;
+		} finally {
+			if (!async) {
+				limiter.release(System.nanoTime() - start, success);
+			}
+		}
+	}
+
+	/**
+	 * 按固定间隔读取连接池状态, 只有一个线程会读取.
+	 */
+	private void samplePool() {
+		if (dataSource == null) {
+			return;
+		}
+		long now = System.nanoTime();
+		long last = lastPoolSample.get();
+		if (now - last >= POOL_SAMPLE_INTERVAL && lastPoolSample.compareAndSet(last, now)) {
+			limiter.updatePool(dataSource.getActiveCount(), dataSource.getNotEmptyWaitThreadCount(),
+					dataSource.getMaxActive());
+		}
+	}
+
+	private boolean matches(List<String> patterns, String path) {
+		for (String pattern : patterns) {
+			if (pathMatcher.match(pattern, path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void reject(HttpServletResponse response) throws IOException {
+		response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		response.setHeader("Retry-After", "1");
+		ServletUtils.setDisableCacheHeader(response);
+		response.setContentType(ServletUtils.TEXT_TYPE + ";charset=UTF-8");
+		response.getWriter().write("Service Unavailable");
+	}
+
+	private static List<String> splitRoutes(String routes) {
+		List<String> result = new ArrayList<String>();
+		if (routes == null) {
+			return result;
+		}
+		for (String route : StringUtils.split(routes, ", \t\r\n")) {
+			result.add(route);
+		}
+		return result;
+	}
+
+	/**
+	 * 异步请求结束(完成、超时或异常)时归还许可, 只归还一次.
+	 */
+	private final class ReleaseOnComplete implements AsyncListener {
+
+		private final long start;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private volatile boolean failed;
+
+		ReleaseOnComplete(long start) {
+			this.start = start;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			if (released.compareAndSet(false, true)) {
+				ServletResponse response = event.getSuppliedResponse();
+				boolean success = !failed && !(response instanceof HttpServletResponse
+						&& ((HttpServletResponse) response).getStatus() >= 500);
+				limiter.release(System.nanoTime() - start, success);
+			}
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			failed = true;
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			failed = true;
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// 再次startAsync时需要重新注册
+			event.getAsyncContext().addListener(this);
+		}
+	}
+
+	/**
+	 * 当前使用的并发上限, 用于监控.
+	 */
+	public AdaptiveLimiter getLimiter() {
+		return limiter;
+	}
+}
@@ -0,0 +1,92 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Map;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.WebApplicationContextUtils;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.literature.common.metrics.DruidCollector;
+import com.literature.common.metrics.HibernateCollector;
+import com.literature.common.metrics.JvmCollector;
+import com.literature.common.metrics.MetricsRegistry;
+import com.literature.common.metrics.PrometheusWriter;
+import com.literature.common.net.CidrTrie;
+import com.literature.common.net.IpAddress;
+import com.literature.common.utils.Global;
+import com.literature.common.utils.IPUtils;
+import com.literature.common.utils.ServletUtils;
+
+/**
+ * 以Prometheus文本格式输出MetricsRegistry中的全部指标.
+ * 初始化时注册JVM、Druid连接池与Hibernate Statistics(hibernate.generate_statistics=true时)的采集器, 这些数值在抓取时才读取.
+ *
+ * 只允许allowedNetworks(逗号分隔的网段, 默认本机与内网)中的客户端访问, 其他返回403;
+ * 客户端地址经过受信任代理解析, 见IPUtils.getClientAddress.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class MetricsServlet extends HttpServlet {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger logger = LoggerFactory.getLogger(MetricsServlet.class);
+
+	private static final String DEFAULT_ALLOWED_NETWORKS = "127.0.0.1/32, ::1/128, 10.0.0.0/8, 172.16.0.0/12, 192.168.0.0/16";
+
+	private transient CidrTrie allowedNetworks;
+
+	@Override
+	public void init() throws ServletException {
+		String networks = getInitParameter("allowedNetworks");
+		allowedNetworks = new CidrTrie();
+		for (String cidr : (networks != null ? networks : DEFAULT_ALLOWED_NETWORKS).split("[,\\s]+")) {
+			if (!cidr.isEmpty()) {
+				allowedNetworks.add(cidr);
+			}
+		}
+
+		MetricsRegistry registry = MetricsRegistry.getDefault();
+		registry.register("jvm", new JvmCollector());
+		WebApplicationContext context = WebApplicationContextUtils.getWebApplicationContext(getServletContext());
+		if (context != null) {
+			Map<String, DruidDataSource> dataSources = context.getBeansOfType(DruidDataSource.class);
+			if (!dataSources.isEmpty()) {
+				registry.register("druid", new DruidCollector(new ArrayList<>(dataSources.values())));
+			}
+			Map<String, SessionFactory> sessionFactories = context.getBeansOfType(SessionFactory.class);
+			// 未开启统计时Statistics全部为0, 不输出
+			if (sessionFactories.size() == 1 && Global.getHibernateConfig().isGenerateStatistics()) {
+				registry.register("hibernate", new HibernateCollector(sessionFactories.values().iterator().next()));
+			}
+			logger.info("Metrics collectors: dataSources={}, sessionFactories={}", dataSources.keySet(),
+					sessionFactories.keySet());
+		}
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		IpAddress client = IPUtils.getClientAddress(request);
+		if (client == null || !allowedNetworks.contains(client)) {
+			response.sendError(HttpServletResponse.SC_FORBIDDEN);
+			return;
+		}
+		StringWriter body = new StringWriter(16 * 1024);
+		MetricsRegistry.getDefault().writeTo(body);
+		ServletUtils.setDisableCacheHeader(response);
+		response.setContentType(PrometheusWriter.CONTENT_TYPE);
+		response.getWriter().write(body.toString());
+	}
+}
@@ -0,0 +1,175 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.literature.common.metrics.Counter;
+import com.literature.common.metrics.MetricFamily;
+import com.literature.common.metrics.MetricsRegistry;
+import com.literature.common.utils.IPUtils;
+import com.literature.common.utils.ServletUtils;
+
+/**
+ * 按客户端限流, 超出时直接返回429与Retry-After, 不进入DispatcherServlet, 避免单个客户端占满数据库连接池.
+ * 客户端以IP区分(只信任ip.trustedProxies转发的X-Forwarded-For, 见IPUtils.getClientIp).
+ * 不按Authorization头区分: 应用内没有校验凭证, 客户端可以每次更换该头获得新的令牌桶, 并占满maxKeys.
+ *
+ * 规则在web.xml的init-param中配置, 每行(或以分号分隔)一条, 格式为"路径 = 许可数/周期 [突发数]",
+ * 周期为s、m、h, 突发数默认与许可数相同, "off"表示不限流; 按顺序匹配第一条, 不匹配任何规则的请求不限流. eg.
+ * <pre>
+ * /static/** = off
+ * /druid/** = 5/s 10
+ * /emp/export/** = 10/m
+ * /** = 50/s 100
+ * </pre>
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+
+	private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+	private final MetricFamily<Counter> rejected = MetricsRegistry.getDefault().counter("http_rate_limited_total",
+			"Requests rejected with 429, by rule", "rule");
+
+	private String rules;
+
+	/**
+	 * 每条规则同时保存的最大客户端数
+	 */
+	private long maxKeys = 100000;
+
+	private List<Rule> compiledRules = Collections.emptyList();
+
+	public void setRules(String rules) {
+		this.rules = rules;
+	}
+
+	public void setMaxKeys(long maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+
+	@Override
+	protected void initFilterBean() throws ServletException {
+		compiledRules = parseRules(rules, maxKeys);
+		logger.info("Rate limit rules: " + compiledRules);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Rule rule = match(urlPathHelper.getPathWithinApplication(request));
+		if (rule != null && rule.limiter != null) {
+			long wait = rule.limiter.tryAcquire(IPUtils.getClientIp(request));
+			if (wait > 0) {
+				rejected.labels(rule.pattern).inc();
+				reject(response, wait);
+				return;
+			}
+		}
+		filterChain.doFilter(request, response);
+	}
+
+	private Rule match(String path) {
+		for (Rule rule : compiledRules) {
+			if (pathMatcher.match(rule.pattern, path)) {
+				return rule;
+			}
+		}
+		return null;
+	}
+
+	private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader("Retry-After", String.valueOf(seconds));
+		ServletUtils.setDisableCacheHeader(response);
+		response.setContentType(ServletUtils.TEXT_TYPE + ";charset=UTF-8");
+		response.getWriter().write(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase());
+	}
+
+	static List<Rule> parseRules(String rules, long maxKeys) throws ServletException {
+		List<Rule> result = new ArrayList<Rule>();
+		if (rules == null) {
+			return result;
+		}
+		for (String line : rules.split("[;\\r\\n]+")) {
+			line = line.trim();
+			if (line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			try {
+				result.add(parseRule(line, maxKeys));
+			} catch (RuntimeException e) {
+				throw new ServletException("Invalid rate limit rule: " + line, e);
+			}
+		}
+		return result;
+	}
+
+	private static Rule parseRule(String line, long maxKeys) {
+		int equals = line.indexOf('=');
+		String pattern = line.substring(0, equals).trim();
+		String[] parts = line.substring(equals + 1).trim().split("\\s+");
+		if ("off".equals(parts[0])) {
+			return new Rule(pattern, line, null);
+		}
+		int slash = parts[0].indexOf('/');
+		int permits = Integer.parseInt(parts[0].substring(0, slash));
+		TimeUnit unit = parseUnit(parts[0].substring(slash + 1));
+		int burst = parts.length > 1 ? Integer.parseInt(parts[1]) : permits;
+		RateLimiter limiter = new RateLimiter(permits, 1, unit, burst, maxKeys);
+		return new Rule(pattern, line, limiter);
+	}
+
+	private static TimeUnit parseUnit(String unit) {
+		if ("s".equals(unit)) {
+			return TimeUnit.SECONDS;
+		} else if ("m".equals(unit)) {
+			return TimeUnit.MINUTES;
+		} else if ("h".equals(unit)) {
+			return TimeUnit.HOURS;
+		}
+		throw new IllegalArgumentException("Unknown period: " + unit);
+	}
+
+	static final class Rule {
+
+		final String pattern;
+
+		final String source;
+
+		/**
+		 * Null表示不限流
+		 */
+		final RateLimiter limiter;
+
+		Rule(String pattern, String source, RateLimiter limiter) {
+			this.pattern = pattern;
+			this.source = source;
+			this.limiter = limiter;
+		}
+
+		@Override
+		public String toString() {
+			return source;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.literature.common.web;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * 按key分别限流的令牌桶, 以GCRA(通用信元速率算法)实现: 每个key只保存一个"理论到达时间",
+ * 获取许可即一次CAS, 不需要后台补充令牌, 也不加锁.
+ *
+ * 桶保存在分段的Guava Cache中, 数量有上限, 空闲到桶已装满所需的时间后自动淘汰(淘汰后与新建的桶等价).
+ * 超出上限被提前淘汰的key会得到一个满的桶, 只会放宽而不会误拒.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class RateLimiter {
+
+	/**
+	 * 每个许可的间隔, 单位纳秒
+	 */
+	private final long interval;
+
+	/**
+	 * 允许的突发量对应的提前量, 即(burst - 1) * interval
+	 */
+	private final long tolerance;
+
+	private final ConcurrentMap<String, AtomicLong> buckets;
+
+	/**
+	 * @param permits 每个周期内的许可数.
+	 * @param period 周期.
+	 * @param burst 允许的突发请求数, 即桶的容量, 不小于1.
+	 * @param maxKeys 同时保存的最大key数.
+	 */
+	public RateLimiter(int permits, long period, TimeUnit unit, int burst, long maxKeys) {
+		if (permits <= 0 || period <= 0 || burst <= 0) {
+			throw new IllegalArgumentException("permits, period and burst must be positive");
+		}
+		this.interval = Math.max(unit.toNanos(period) / permits, 1);
+		this.tolerance = (burst - 1) * interval;
+		Cache<String, AtomicLong> cache = CacheBuilder.newBuilder().concurrencyLevel(16).maximumSize(maxKeys)
+				.expireAfterAccess(tolerance + interval, TimeUnit.NANOSECONDS).build();
+		this.buckets = cache.asMap();
+	}
+
+	/**
+	 * 尝试获取一个许可.
+	 *
+	 * @return 获取成功时返回0, 否则返回需要等待的纳秒数.
+	 */
+	public long tryAcquire(String key) {
+		return tryAcquire(key, System.nanoTime());
+	}
+
+	long tryAcquire(String key, long now) {
+		AtomicLong arrival = buckets.get(key);
+		if (arrival == null) {
+			AtomicLong created = new AtomicLong(now);
+			arrival = buckets.putIfAbsent(key, created);
+			if (arrival == null) {
+				arrival = created;
+			}
+		}
+		while (true) {
+			long current = arrival.get();
+			long next = (current - now > 0 ? current : now) + interval;
+			long wait = next - tolerance - interval - now;
+			if (wait > 0) {
+				return wait;
+			}
+			if (arrival.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * 当前保存的key数(近似值).
+	 */
+	public int size() {
+		return buckets.size();
+	}
+}
@@ -0,0 +1,77 @@
+package com.literature.common.web;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import com.literature.common.metrics.Counter;
+import com.literature.common.metrics.Histogram;
+import com.literature.common.metrics.MetricFamily;
+import com.literature.common.metrics.MetricsRegistry;
+
+/**
+ * 按@RequestMapping的路径模式统计请求数与耗时, 路径模式取自HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+ * 不使用实际URL, 避免/emp/1、/emp/2各占一组标签.
+ *
+ * 异步请求在异步分派时会再次进入preHandle, 开始时间只记录第一次, 耗时包括异步处理的时间.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class RequestMetricsInterceptor extends HandlerInterceptorAdapter {
+
+	private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".START";
+
+	/**
+	 * 没有匹配到@RequestMapping的请求
+	 */
+	private static final String UNMAPPED = "UNMAPPED";
+
+	/**
+	 * 状态码的字符串形式, 避免每个请求都生成新的String
+	 */
+	private static final String[] STATUS_TEXT = new String[600];
+
+	static {
+		for (int i = 0; i < STATUS_TEXT.length; i++) {
+			STATUS_TEXT[i] = String.valueOf(i);
+		}
+	}
+
+	private final MetricFamily<Counter> requests = MetricsRegistry.getDefault().counter("http_requests_total",
+			"HTTP requests handled by the dispatcher, by method, route and status", "method", "route", "status");
+
+	private final MetricFamily<Histogram> duration = MetricsRegistry.getDefault().histogram(
+			"http_request_duration_seconds", "HTTP request latency, by method and route", Histogram.LATENCY_BUCKETS,
+			"method", "route");
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getAttribute(START_ATTRIBUTE) == null) {
+			request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+		if (start == null) {
+			return;
+		}
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String route = pattern != null ? pattern.toString() : UNMAPPED;
+		String method = request.getMethod();
+		int status = ex != null && response.getStatus() < 400 ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+				: response.getStatus();
+		duration.labels(method, route).observeNanos(System.nanoTime() - start);
+		requests.labels(method, route, statusText(status)).inc();
+	}
+
+	private static String statusText(int status) {
+		return status >= 0 && status < STATUS_TEXT.length ? STATUS_TEXT[status] : String.valueOf(status);
+	}
+}
@@ -0,0 +1,346 @@
+package com.literature.common.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.ServletContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 启动时扫描的静态资源, 不可变, 供StaticResourceServlet使用.
+ *
+ * 每个文件按内容的SHA-256生成指纹, 文件名插入指纹(js/app.js -> js/app.3f2a9c1b0d.js), 内容变化时URL随之变化,
+ * 可以长期缓存. 不超过maxCachedSize且总量不超过maxCacheBytes的文件内容保存在内存中, 文本类型同时保存gzip压缩后的内容;
+ * 更大的文件以只读方式映射到内存(mmap), 应用没有展开到文件系统时每次从ServletContext读取.
+ * 条件请求所需的ETag与最后修改时间都在扫描时算好.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public final class StaticAssets {
+
+	private static final Logger logger = LoggerFactory.getLogger(StaticAssets.class);
+
+	/**
+	 * 指纹取SHA-256的前多少个十六进制字符
+	 */
+	private static final int FINGERPRINT_LENGTH = 10;
+
+	/**
+	 * gzip后至少节省的比例, 达不到时不保存压缩内容
+	 */
+	private static final double MIN_GZIP_SAVING = 0.1;
+
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	/**
+	 * 按相对于根目录的路径(原路径与带指纹的路径)查找
+	 */
+	private final Map<String, Asset> assets;
+
+	/**
+	 * 原URL -> 带指纹的URL, 都包括根目录, 如/static/js/app.js -> /static/js/app.3f2a9c1b0d.js
+	 */
+	private final Map<String, String> urls;
+
+	private final long cachedBytes;
+
+	private StaticAssets(Map<String, Asset> assets, Map<String, String> urls, long cachedBytes) {
+		this.assets = assets;
+		this.urls = urls;
+		this.cachedBytes = cachedBytes;
+	}
+
+	/**
+	 * 扫描root(如/static)下的全部文件.
+	 */
+	public static StaticAssets scan(ServletContext servletContext, String root, int maxCachedSize, long maxCacheBytes)
+			throws IOException {
+		Scanner scanner = new Scanner(servletContext, root, maxCachedSize, maxCacheBytes);
+		scanner.scan(root.endsWith("/") ? root : root + "/");
+		logger.info("Static assets under {}: {} files, {} bytes cached in memory", root, scanner.urls.size(),
+				scanner.cachedBytes);
+		return new StaticAssets(Collections.unmodifiableMap(scanner.assets),
+				Collections.unmodifiableMap(scanner.urls), scanner.cachedBytes);
+	}
+
+	/**
+	 * @param path 相对于根目录的路径, 如/js/app.js或/js/app.3f2a9c1b0d.js.
+	 * @return 不存在时返回Null.
+	 */
+	public Asset get(String path) {
+		return assets.get(path);
+	}
+
+	/**
+	 * 原URL到带指纹URL的映射, 在JSP中以${assets['/static/js/app.js']}引用.
+	 */
+	public Map<String, String> getUrls() {
+		return urls;
+	}
+
+	/**
+	 * 内存中保存的内容的总字节数, 包括gzip内容, 不包括mmap的文件.
+	 */
+	public long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	/**
+	 * 一个静态文件.
+	 */
+	public static final class Asset {
+
+		private final String resourcePath;
+
+		private final String fingerprintedPath;
+
+		private final String contentType;
+
+		private final long lastModified;
+
+		private final long length;
+
+		private final String etag;
+
+		private final byte[] bytes;
+
+		private final byte[] gzipBytes;
+
+		private final ByteBuffer mapped;
+
+		Asset(String resourcePath, String fingerprintedPath, String contentType, long lastModified, long length,
+				String etag, byte[] bytes, byte[] gzipBytes, ByteBuffer mapped) {
+			this.resourcePath = resourcePath;
+			this.fingerprintedPath = fingerprintedPath;
+			this.contentType = contentType;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.etag = etag;
+			this.bytes = bytes;
+			this.gzipBytes = gzipBytes;
+			this.mapped = mapped;
+		}
+
+		/**
+		 * 在ServletContext中的路径, 内容不在内存中时从这里读取.
+		 */
+		public String getResourcePath() {
+			return resourcePath;
+		}
+
+		public String getFingerprintedPath() {
+			return fingerprintedPath;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		/**
+		 * 精确到秒, 与Last-Modified头一致.
+		 */
+		public long getLastModified() {
+			return lastModified;
+		}
+
+		public long getLength() {
+			return length;
+		}
+
+		public String getEtag() {
+			return etag;
+		}
+
+		/**
+		 * gzip内容的ETag, 与原内容区分.
+		 */
+		public String getGzipEtag() {
+			return etag.substring(0, etag.length() - 1) + "-gz\"";
+		}
+
+		/**
+		 * 内存中的内容, 文件较大时为Null.
+		 */
+		public byte[] getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * 预先压缩的内容, 不是文本类型或压缩效果不明显时为Null.
+		 */
+		public byte[] getGzipBytes() {
+			return gzipBytes;
+		}
+
+		/**
+		 * 映射到内存的文件内容, 每次使用前duplicate, 未映射时为Null.
+		 */
+		public ByteBuffer getMapped() {
+			return mapped;
+		}
+	}
+
+	private static final class Scanner {
+
+		private final ServletContext servletContext;
+
+		private final String root;
+
+		private final int maxCachedSize;
+
+		private final long maxCacheBytes;
+
+		private final Map<String, Asset> assets = new HashMap<String, Asset>();
+
+		private final Map<String, String> urls = new TreeMap<String, String>();
+
+		private long cachedBytes;
+
+		Scanner(ServletContext servletContext, String root, int maxCachedSize, long maxCacheBytes) {
+			this.servletContext = servletContext;
+			this.root = root.endsWith("/") ? root.substring(0, root.length() - 1) : root;
+			this.maxCachedSize = maxCachedSize;
+			this.maxCacheBytes = maxCacheBytes;
+		}
+
+		void scan(String directory) throws IOException {
+			Set<String> paths = servletContext.getResourcePaths(directory);
+			if (paths == null) {
+				return;
+			}
+			for (String path : paths) {
+				if (path.endsWith("/")) {
+					scan(path);
+				} else {
+					add(path);
+				}
+			}
+		}
+
+		private void add(String resourcePath) throws IOException {
+			URL url = servletContext.getResource(resourcePath);
+			if (url == null) {
+				return;
+			}
+			String realPath = servletContext.getRealPath(resourcePath);
+			File file = realPath != null ? new File(realPath) : null;
+			long lastModified = file != null && file.isFile() ? file.lastModified()
+					: url.openConnection().getLastModified();
+			lastModified = lastModified / 1000 * 1000;
+
+			MessageDigest digest = sha256();
+			byte[] bytes = null;
+			long length;
+			try (InputStream in = servletContext.getResourceAsStream(resourcePath)) {
+				ByteArrayOutputStream copy = new ByteArrayOutputStream();
+				byte[] buffer = new byte[8192];
+				length = 0;
+				int n;
+				while ((n = in.read(buffer)) > 0) {
+					digest.update(buffer, 0, n);
+					length += n;
+					if (length <= maxCachedSize) {
+						copy.write(buffer, 0, n);
+					}
+				}
+				if (length <= maxCachedSize && cachedBytes + length <= maxCacheBytes) {
+					bytes = copy.toByteArray();
+				}
+			}
+			String hash = hex(digest.digest());
+			String contentType = servletContext.getMimeType(resourcePath);
+			if (contentType == null) {
+				contentType = "application/octet-stream";
+			}
+
+			byte[] gzipBytes = null;
+			ByteBuffer mapped = null;
+			if (bytes != null) {
+				cachedBytes += bytes.length;
+				if (isText(contentType)) {
+					gzipBytes = gzip(bytes);
+					if (gzipBytes.length > bytes.length * (1 - MIN_GZIP_SAVING)) {
+						gzipBytes = null;
+					} else {
+						cachedBytes += gzipBytes.length;
+					}
+				}
+			} else if (file != null && file.isFile()) {
+				try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+					mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+				}
+			}
+
+			String relative = resourcePath.substring(root.length());
+			String fingerprinted = fingerprint(relative, hash.substring(0, FINGERPRINT_LENGTH));
+			Asset asset = new Asset(resourcePath, fingerprinted, contentType, lastModified, length,
+					"\"" + hash.substring(0, 32) + "\"", bytes, gzipBytes, mapped);
+			assets.put(relative, asset);
+			assets.put(fingerprinted, asset);
+			urls.put(root + relative, root + fingerprinted);
+		}
+
+		/**
+		 * 在最后一个点前插入指纹, 没有扩展名时追加在末尾.
+		 */
+		private static String fingerprint(String path, String fingerprint) {
+			int slash = path.lastIndexOf('/');
+			int dot = path.lastIndexOf('.');
+			if (dot <= slash + 1) {
+				return path + "." + fingerprint;
+			}
+			return path.substring(0, dot) + "." + fingerprint + path.substring(dot);
+		}
+
+		private static boolean isText(String contentType) {
+			return contentType.startsWith("text/") || contentType.contains("javascript") || contentType.contains("json")
+					|| contentType.contains("xml") || contentType.contains("svg");
+		}
+
+		private static byte[] gzip(byte[] bytes) throws IOException {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 3 + 64);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+				{
+					def.setLevel(9);
+				}
+			}) {
+				gzip.write(bytes);
+			}
+			return out.toByteArray();
+		}
+
+		private static MessageDigest sha256() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private static String hex(byte[] bytes) {
+			char[] chars = new char[bytes.length * 2];
+			for (int i = 0; i < bytes.length; i++) {
+				chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+				chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+			}
+			return new String(chars);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.literature.common.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.literature.common.utils.ServletUtils;
+
+/**
+ * 输出root目录下的静态资源, 映射到/static/*, 文件在启动时扫描, 见StaticAssets.
+ *
+ * 带指纹的URL(/static/js/app.3f2a9c1b0d.js)缓存一年(ServletUtils.ONE_YEAR_SECONDS, immutable);
+ * 原URL(/static/js/app.js)每次向服务端确认, 未修改时返回304. 条件请求只比较内存中的ETag与修改时间, 不读文件.
+ * 客户端接受gzip且有预先压缩的内容时直接输出, CompressionFilter看到Content-Encoding后不再压缩.
+ *
+ * 启动时把原URL到带指纹URL的映射放入ServletContext的assets属性, JSP中以
+ * ${ctx}${assets['/static/js/app.js']}引用. 比/static/*更精确的映射(如kaptcha验证码)仍由各自的Servlet处理.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class StaticResourceServlet extends HttpServlet {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 原URL到带指纹URL的映射在ServletContext中的属性名
+	 */
+	public static final String ASSETS_ATTRIBUTE = "assets";
+
+	private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=" + ServletUtils.ONE_YEAR_SECONDS
+			+ ", immutable";
+
+	private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+	private transient StaticAssets assets;
+
+	@Override
+	public void init() throws ServletException {
+		String root = initParameter("root", "/static");
+		int maxCachedSize = Integer.parseInt(initParameter("maxCachedSize", "262144"));
+		long maxCacheBytes = Long.parseLong(initParameter("maxCacheBytes", "67108864"));
+		try {
+			assets = StaticAssets.scan(getServletContext(), root, maxCachedSize, maxCacheBytes);
+		} catch (IOException e) {
+			throw new ServletException("Failed to scan static assets under " + root, e);
+		}
+		getServletContext().setAttribute(ASSETS_ATTRIBUTE, assets.getUrls());
+	}
+
+	private String initParameter(String name, String defaultValue) {
+		String value = getInitParameter(name);
+		return value != null ? value.trim() : defaultValue;
+	}
+
+	public StaticAssets getAssets() {
+		return assets;
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String path = request.getPathInfo();
+		StaticAssets.Asset asset = path != null ? assets.get(path) : null;
+		if (asset == null) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		boolean gzip = asset.getGzipBytes() != null
+				&& CompressionFilter.GZIP.equals(CompressionFilter.negotiate(request.getHeader("Accept-Encoding")));
+		String etag = gzip ? asset.getGzipEtag() : asset.getEtag();
+
+		if (path.equals(asset.getFingerprintedPath())) {
+			response.setHeader("Cache-Control", IMMUTABLE_CACHE_CONTROL);
+			response.setDateHeader("Expires", System.currentTimeMillis() + ServletUtils.ONE_YEAR_SECONDS * 1000);
+		} else {
+			response.setHeader("Cache-Control", REVALIDATE_CACHE_CONTROL);
+		}
+		if (asset.getGzipBytes() != null) {
+			response.setHeader("Vary", "Accept-Encoding");
+		}
+		ServletUtils.setEtag(response, etag);
+		ServletUtils.setLastModifiedHeader(response, asset.getLastModified());
+		// 有If-None-Match时以ETag为准, 忽略If-Modified-Since
+		boolean modified = request.getHeader("If-None-Match") != null
+				? ServletUtils.checkIfNoneMatchEtag(request, response, etag)
+				: ServletUtils.checkIfModifiedSince(request, response, asset.getLastModified());
+		if (!modified) {
+			return;
+		}
+
+		response.setContentType(asset.getContentType());
+		if (gzip) {
+			response.setHeader("Content-Encoding", CompressionFilter.GZIP);
+			write(response, asset.getGzipBytes());
+		} else if (asset.getBytes() != null) {
+			write(response, asset.getBytes());
+		} else if (asset.getMapped() != null) {
+			write(response, asset.getMapped().duplicate(), asset.getLength());
+		} else {
+			stream(response, asset);
+		}
+	}
+
+	private static void write(HttpServletResponse response, byte[] bytes) throws IOException {
+		response.setContentLength(bytes.length);
+		response.getOutputStream().write(bytes);
+	}
+
+	/**
+	 * 从映射的内存复制到输出流, 不经过文件读取.
+	 */
+	private static void write(HttpServletResponse response, ByteBuffer buffer, long length) throws IOException {
+		response.setContentLengthLong(length);
+		ServletOutputStream out = response.getOutputStream();
+		byte[] chunk = new byte[(int) Math.min(64 * 1024, Math.max(1, length))];
+		while (buffer.hasRemaining()) {
+			int n = Math.min(chunk.length, buffer.remaining());
+			buffer.get(chunk, 0, n);
+			out.write(chunk, 0, n);
+		}
+	}
+
+	/**
+	 * 应用没有展开到文件系统, 内容既不在内存中也无法映射时从ServletContext读取.
+	 */
+	private void stream(HttpServletResponse response, StaticAssets.Asset asset) throws IOException {
+		response.setContentLengthLong(asset.getLength());
+		ServletOutputStream out = response.getOutputStream();
+		try (InputStream in = getServletContext().getResourceAsStream(asset.getResourcePath())) {
+			byte[] chunk = new byte[64 * 1024];
+			int n;
+			while ((n = in.read(chunk)) > 0) {
+				out.write(chunk, 0, n);
+			}
+		}
+	}
+}
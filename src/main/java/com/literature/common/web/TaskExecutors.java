@@ -0,0 +1,74 @@
+package com.literature.common.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.literature.common.config.ConfigSnapshot;
+import com.literature.common.utils.Global;
+import com.literature.common.utils.VirtualThreads;
+
+/**
+ * 按mvc.executor配置创建执行异步请求(Callable)的执行器, 在springmvc.xml中以factory-method引用.
+ * <ul>
+ * <li>platform(默认): 大小为jdbc.pool.maxActive的平台线程池, 排队数为其10倍.</li>
+ * <li>virtual: 每个请求一个虚拟线程, 同时执行的请求数不超过mvc.virtual.maxConcurrency; 运行在JDK 21以下时退回platform.</li>
+ * </ul>
+ * 返回的执行器由Spring负责初始化与关闭, 直接使用时需自行调用afterPropertiesSet/destroy.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class TaskExecutors {
+
+	private static Logger logger = LoggerFactory.getLogger(TaskExecutors.class);
+
+	public static final String PLATFORM = "platform";
+
+	public static final String VIRTUAL = "virtual";
+
+	private static final String THREAD_NAME_PREFIX = "mvc-async-";
+
+	/**
+	 * 按当前配置创建.
+	 */
+	public static AsyncTaskExecutor mvcExecutor() {
+		ConfigSnapshot config = Global.getSnapshot();
+		int poolSize = Global.getJdbcPoolConfig().getMaxActive();
+		String mode = config.getString("mvc.executor", PLATFORM);
+		if (VIRTUAL.equals(mode)) {
+			if (VirtualThreads.isAvailable()) {
+				VirtualThreads.configureScheduler(poolSize);
+				int maxConcurrency = config.getInt("mvc.virtual.maxConcurrency", 10000);
+				logger.info("Async requests run on virtual threads, maxConcurrency=" + maxConcurrency);
+				return virtual(maxConcurrency);
+			}
+			logger.warn("mvc.executor=virtual requires JDK 21+, running on JDK " + VirtualThreads.javaVersion()
+					+ ", falling back to platform threads");
+		}
+		logger.info("Async requests run on " + poolSize + " platform threads");
+		return platform(poolSize, poolSize * 10);
+	}
+
+	/**
+	 * 固定大小的平台线程池, 未初始化.
+	 */
+	public static ThreadPoolTaskExecutor platform(int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * 虚拟线程执行器.
+	 */
+	public static VirtualThreadTaskExecutor virtual(int maxConcurrency) {
+		return new VirtualThreadTaskExecutor(THREAD_NAME_PREFIX, maxConcurrency);
+	}
+}
@@ -0,0 +1,97 @@
+package com.literature.common.web;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import com.literature.common.utils.VirtualThreads;
+
+/**
+ * 每个任务一个虚拟线程的AsyncTaskExecutor, 用于mvc:async-support执行Callable.
+ * 阻塞的JDBC调用只挂起虚拟线程, 同时处理的慢请求数不再受平台线程数(每个约1MB栈)限制.
+ *
+ * 同时执行的任务数以Semaphore限制在maxConcurrency以内, 超出时立即拒绝而不是无限创建线程;
+ * 访问数据库的并发数仍由连接池的maxActive限制.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class VirtualThreadTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+	private final ExecutorService executor;
+
+	private final Semaphore permits;
+
+	private final int maxConcurrency;
+
+	/**
+	 * @param prefix 线程名前缀.
+	 * @param maxConcurrency 同时执行的最大任务数.
+	 */
+	public VirtualThreadTaskExecutor(String prefix, int maxConcurrency) {
+		this.executor = VirtualThreads.newThreadPerTaskExecutor(prefix);
+		this.permits = new Semaphore(maxConcurrency);
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	@Override
+	public void execute(final Runnable task) {
+		if (!permits.tryAcquire()) {
+			throw new TaskRejectedException("Too many concurrent tasks: " + maxConcurrency);
+		}
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						task.run();
+					} finally {
+						permits.release();
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			permits.release();
+			throw new TaskRejectedException("Executor " + executor + " did not accept task: " + task, e);
+		}
+	}
+
+	@Override
+	public void execute(Runnable task, long startTimeout) {
+		execute(task);
+	}
+
+	@Override
+	public Future<?> submit(Runnable task) {
+		FutureTask<Object> future = new FutureTask<Object>(task, null);
+		execute(future);
+		return future;
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		FutureTask<T> future = new FutureTask<T>(task);
+		execute(future);
+		return future;
+	}
+
+	/**
+	 * 当前执行中的任务数.
+	 */
+	public int getActiveCount() {
+		return maxConcurrency - permits.availablePermits();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+	}
+}
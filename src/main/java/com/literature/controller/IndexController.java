@@ -1,5 +1,7 @@
 package com.literature.controller;
 
+import java.util.concurrent.Callable;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,14 +21,23 @@ public class IndexController {
 	@Autowired
 	private EmpService empService;
 	
+	/**
+	 * 在mvcTaskExecutor中执行, 等待数据库时不占用容器线程.
+	 */
 	@RequestMapping(value="/index",method=RequestMethod.GET)
-	public void index() {
-		Dept dept=new Dept();
-		dept.setName("IT");
-		deptService.save(dept);
-		Emp emp=new Emp();
-		emp.setName("Alice");
-		emp.setDept(dept);
-		empService.save(emp);
+	public Callable<String> index() {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				Dept dept=new Dept();
+				dept.setName("IT");
+				deptService.save(dept);
+				Emp emp=new Emp();
+				emp.setName("Alice");
+				emp.setDept(dept);
+				empService.save(emp);
+				return "index";
+			}
+		};
 	}
 }
@@ -0,0 +1,63 @@
+package com.literature.controller;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.Callable;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import com.literature.common.cache.ResponseCache;
+import com.literature.common.mapper.JsonMapper;
+import com.literature.common.utils.ServletUtils;
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+import com.literature.domain.Views;
+import com.literature.service.DeptService;
+import com.literature.service.EmpService;
+
+/**
+ * 以JSON数组输出全部记录, 结果按数据版本缓存在ResponseCache中, 数据未变时不访问数据库.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@Controller
+@RequestMapping(value="/list")
+public class ListController {
+
+	@Autowired
+	private DeptService deptService;
+	@Autowired
+	private EmpService empService;
+
+	@RequestMapping(value="/emps",method=RequestMethod.GET)
+	public void emps(HttpServletRequest request, HttpServletResponse response) throws Exception {
+		ResponseCache.serve(request, response, "list/emps", ServletUtils.JSON_TYPE, new Callable<byte[]>() {
+			@Override
+			public byte[] call() throws Exception {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				JsonMapper.nonEmptyMapper().listCodecFor(Emp.class).withView(Views.EmpDetail.class)
+						.writeTo(out, empService.findAll());
+				return out.toByteArray();
+			}
+		}, Emp.class, Dept.class);
+	}
+
+	@RequestMapping(value="/depts",method=RequestMethod.GET)
+	public void depts(HttpServletRequest request, HttpServletResponse response) throws Exception {
+		ResponseCache.serve(request, response, "list/depts", ServletUtils.JSON_TYPE, new Callable<byte[]>() {
+			@Override
+			public byte[] call() throws Exception {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				JsonMapper.nonEmptyMapper().listCodecFor(Dept.class).withView(Views.Summary.class)
+						.writeTo(out, deptService.findAll());
+				return out.toByteArray();
+			}
+		}, Dept.class);
+	}
+}
@@ -0,0 +1,97 @@
+package com.literature.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import com.literature.common.cache.ResponseCache;
+import com.literature.common.mapper.JsonMapper;
+import com.literature.common.mapper.NdjsonWriter;
+import com.literature.common.metrics.JobMetrics;
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+import com.literature.domain.Views;
+import com.literature.service.DeptService;
+import com.literature.service.EmpService;
+
+/**
+ * 以NDJSON格式流式输出全部记录, 客户端边接收边处理, 服务端内存占用与记录总数无关.
+ * 输出内容不缓存, 但带有按数据版本生成的ETag, 数据未变时直接返回304, 不访问数据库.
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@Controller
+@RequestMapping(value="/stream")
+public class StreamController {
+
+	/**
+	 * 每批抓取/输出的记录数
+	 */
+	private static final int BATCH_SIZE = 500;
+
+	@Autowired
+	private DeptService deptService;
+	@Autowired
+	private EmpService empService;
+
+	@RequestMapping(value="/emps",method=RequestMethod.GET)
+	public void emps(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		if (!ResponseCache.checkModified(request, response, "stream/emps", Emp.class, Dept.class)) {
+			return;
+		}
+		NdjsonWriter<Emp> writer = new NdjsonWriter<Emp>(prepare(response),
+				JsonMapper.nonEmptyMapper().codecFor(Emp.class).withView(Views.EmpDetail.class), BATCH_SIZE);
+		JobMetrics.Job job = JobMetrics.startExport("ndjson");
+		try {
+			empService.scrollAll(BATCH_SIZE, writer);
+			writer.finish();
+		} finally {
+			finish(job, writer);
+		}
+	}
+
+	@RequestMapping(value="/depts",method=RequestMethod.GET)
+	public void depts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		if (!ResponseCache.checkModified(request, response, "stream/depts", Dept.class)) {
+			return;
+		}
+		NdjsonWriter<Dept> writer = new NdjsonWriter<Dept>(prepare(response),
+				JsonMapper.nonEmptyMapper().codecFor(Dept.class).withView(Views.Summary.class), BATCH_SIZE);
+		JobMetrics.Job job = JobMetrics.startExport("ndjson");
+		try {
+			deptService.scrollAll(BATCH_SIZE, writer);
+			writer.finish();
+		} finally {
+			finish(job, writer);
+		}
+	}
+
+	/**
+	 * 记录导出任务的结果, 查询出错时writer仍未结束.
+	 */
+	private static void finish(JobMetrics.Job job, NdjsonWriter<?> writer) {
+		if (writer.isAborted()) {
+			job.aborted(writer.getCount());
+		} else if (writer.isFinished()) {
+			job.completed(writer.getCount());
+		} else {
+			job.failed(writer.getCount());
+		}
+	}
+
+	/**
+	 * 不设置Content-Length, 容器在首次flush时使用chunked编码输出.
+	 */
+	private OutputStream prepare(HttpServletResponse response) throws IOException {
+		response.setContentType(NdjsonWriter.CONTENT_TYPE);
+		return response.getOutputStream();
+	}
+}
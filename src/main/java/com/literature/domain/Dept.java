@@ -13,8 +13,14 @@ import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonView;
+
 @Entity
 @Table(name="dept")
+@DynamicUpdate
 public class Dept implements Serializable{
 
 	/**
@@ -40,6 +46,8 @@ public class Dept implements Serializable{
 		this.name = name;
 	}
 	@OneToMany(mappedBy="dept",cascade=CascadeType.ALL)
+	@JsonView(Views.DeptDetail.class)
+	@JsonIgnoreProperties("dept")
 	public Set<Emp> getEmps() {
 		return emps;
 	}
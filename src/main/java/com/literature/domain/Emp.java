@@ -12,8 +12,14 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonView;
+
 @Entity
 @Table(name="emp")
+@DynamicUpdate
 public class Emp implements Serializable{
 
 	/**
@@ -40,6 +46,8 @@ public class Emp implements Serializable{
 	}
 	@ManyToOne(cascade=CascadeType.ALL)
 	@JoinColumn(name="deptId")
+	@JsonView(Views.EmpDetail.class)
+	@JsonIgnoreProperties("emps")
 	public Dept getDept() {
 		return dept;
 	}
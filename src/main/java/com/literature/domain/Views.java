@@ -0,0 +1,31 @@
+package com.literature.domain;
+
+/**
+ * JSON输出视图, 声明序列化时包含哪些关联对象.
+ * 未标注@JsonView的属性在任何视图下都会输出, 关联属性只在对应的视图下输出.
+ * 
+ * eg. JsonMapper.nonEmptyMapper().toJson(depts, Views.DeptDetail.class)
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class Views {
+
+	/**
+	 * 只输出基本属性, 不包含任何关联对象
+	 */
+	public interface Summary {
+	}
+
+	/**
+	 * 员工及其所属部门
+	 */
+	public interface EmpDetail extends Summary {
+	}
+
+	/**
+	 * 部门及其员工列表
+	 */
+	public interface DeptDetail extends Summary {
+	}
+}
@@ -0,0 +1,38 @@
+package com.literature.domain.view;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 部门视图对象, 员工列表未加载时为Null.
+ *
+ * eg. Mappers.get(Dept.class, DeptView.class).map(dept)
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class DeptView implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private Long id;
+	private String name;
+	private List<EmpView> emps;
+	public Long getId() {
+		return id;
+	}
+	public void setId(Long id) {
+		this.id = id;
+	}
+	public String getName() {
+		return name;
+	}
+	public void setName(String name) {
+		this.name = name;
+	}
+	public List<EmpView> getEmps() {
+		return emps;
+	}
+	public void setEmps(List<EmpView> emps) {
+		this.emps = emps;
+	}
+}
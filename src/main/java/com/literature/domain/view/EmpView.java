@@ -0,0 +1,48 @@
+package com.literature.domain.view;
+
+import java.io.Serializable;
+
+import com.literature.common.mapper.MapFrom;
+
+/**
+ * 员工视图对象, 部门只保留主键与名称.
+ *
+ * eg. Mappers.get(Emp.class, EmpView.class).map(emp)
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class EmpView implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private Long id;
+	private String name;
+	@MapFrom("dept.id")
+	private Long deptId;
+	@MapFrom("dept.name")
+	private String deptName;
+	public Long getId() {
+		return id;
+	}
+	public void setId(Long id) {
+		this.id = id;
+	}
+	public String getName() {
+		return name;
+	}
+	public void setName(String name) {
+		this.name = name;
+	}
+	public Long getDeptId() {
+		return deptId;
+	}
+	public void setDeptId(Long deptId) {
+		this.deptId = deptId;
+	}
+	public String getDeptName() {
+		return deptName;
+	}
+	public void setDeptName(String deptName) {
+		this.deptName = deptName;
+	}
+}
@@ -1,8 +1,29 @@
 package com.literature.service;
 
+import java.util.List;
+import java.util.Set;
+
+import com.literature.common.dao.ScrollCallback;
 import com.literature.domain.Emp;
 
 public interface EmpService {
 
 	void save(Emp emp);
+
+	/**
+	 * 按JSON merge-patch修改记录, 只更新值有变化的列.
+	 * @return 值有变化的属性名
+	 */
+	Set<String> patch(Long id, String mergePatch);
+
+	/**
+	 * 取得全部记录.
+	 */
+	List<Emp> findAll();
+
+	/**
+	 * 按主键顺序逐条遍历全部记录, 回调返回false时停止.
+	 * @return 已处理的记录数
+	 */
+	int scrollAll(int batchSize, ScrollCallback<Emp> callback);
 }
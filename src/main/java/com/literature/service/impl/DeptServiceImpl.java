@@ -1,10 +1,14 @@
 package com.literature.service.impl;
 
+import java.util.List;
+import java.util.Set;
+
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.literature.common.dao.ScrollCallback;
 import com.literature.dao.DeptDao;
 import com.literature.domain.Dept;
 import com.literature.service.DeptService;
@@ -20,4 +24,19 @@ public class DeptServiceImpl implements DeptService {
 	public void save(Dept dept) {
 		deptDao.save(dept);
 	}
+
+	@Override
+	public Set<String> patch(Long id, String mergePatch) {
+		return deptDao.patch(id, mergePatch);
+	}
+
+	@Override
+	public List<Dept> findAll() {
+		return deptDao.findAll();
+	}
+
+	@Override
+	public int scrollAll(int batchSize, ScrollCallback<Dept> callback) {
+		return deptDao.scrollAll(batchSize, callback);
+	}
 }
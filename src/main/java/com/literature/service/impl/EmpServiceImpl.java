@@ -1,10 +1,14 @@
 package com.literature.service.impl;
 
+import java.util.List;
+import java.util.Set;
+
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.literature.common.dao.ScrollCallback;
 import com.literature.dao.EmpDao;
 import com.literature.domain.Emp;
 import com.literature.service.EmpService;
@@ -19,4 +23,19 @@ public class EmpServiceImpl implements EmpService{
 	public void save(Emp emp) {
 		empDao.save(emp);
 	}
+
+	@Override
+	public Set<String> patch(Long id, String mergePatch) {
+		return empDao.patch(id, mergePatch);
+	}
+
+	@Override
+	public List<Emp> findAll() {
+		return empDao.findAll();
+	}
+
+	@Override
+	public int scrollAll(int batchSize, ScrollCallback<Emp> callback) {
+		return empDao.scrollAll(batchSize, callback);
+	}
 }
@@ -0,0 +1,103 @@
+package com.literature.common.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+public class ResponseCacheTest {
+
+	/**
+	 * 各测试使用自己的类型, 版本号互不影响
+	 */
+	private static class Listed {
+	}
+
+	private static class Committed {
+	}
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private final Callable<byte[]> loader = new Callable<byte[]>() {
+		@Override
+		public byte[] call() {
+			return ("[" + loads.incrementAndGet() + "]").getBytes();
+		}
+	};
+
+	@Before
+	public void setUp() {
+		ResponseCache.invalidateAll();
+	}
+
+	@Test
+	public void notModifiedWithoutLoading() throws Exception {
+		MockHttpServletResponse first = serve(null);
+		assertEquals(200, first.getStatus());
+		assertEquals("[1]", first.getContentAsString());
+		String etag = first.getHeader("ETag");
+		assertTrue(etag, etag.startsWith("W/\""));
+
+		MockHttpServletResponse second = serve(etag);
+		assertEquals(304, second.getStatus());
+		assertEquals(0, second.getContentAsByteArray().length);
+
+		MockHttpServletResponse third = serve(null);
+		assertEquals("[1]", third.getContentAsString());
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void writeInvalidates() throws Exception {
+		String etag = serve(null).getHeader("ETag");
+		DataVersions.bump(Listed.class);
+
+		MockHttpServletResponse response = serve(etag);
+		assertEquals(200, response.getStatus());
+		assertEquals("[" + loads.get() + "]", response.getContentAsString());
+		assertTrue(!etag.equals(response.getHeader("ETag")));
+		assertEquals(304, serve(response.getHeader("ETag")).getStatus());
+	}
+
+	@Test
+	public void bumpAfterCommitOnly() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			DataVersions.bump(Committed.class);
+			assertEquals(0, DataVersions.current(Committed.class));
+			TransactionSynchronizationUtils.triggerAfterCommit();
+			assertEquals(1, DataVersions.current(Committed.class));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			DataVersions.bump(Committed.class);
+			TransactionSynchronizationUtils.invokeAfterCompletion(
+					TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+			assertEquals(1, DataVersions.current(Committed.class));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private MockHttpServletResponse serve(String ifNoneMatch) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/list/listed");
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ResponseCache.serve(request, response, "test/listed", "application/json", loader, Listed.class);
+		return response;
+	}
+}
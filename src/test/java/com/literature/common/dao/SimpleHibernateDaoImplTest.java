@@ -0,0 +1,174 @@
+package com.literature.common.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Query;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+import org.junit.Test;
+
+import com.literature.common.cache.DataVersions;
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+
+public class SimpleHibernateDaoImplTest {
+
+	@Test
+	public void patchChangedPropertiesOnly() {
+		Dept dept = new Dept();
+		Emp emp = new Emp();
+		emp.setId(1L);
+		emp.setName("Alice");
+		emp.setDept(dept);
+		SimpleHibernateDaoImpl<Emp, Long> dao = daoReturning(emp);
+		long version = DataVersions.current(Emp.class);
+
+		assertEquals(Collections.emptySet(), dao.patch(1L, "{\"name\":\"Alice\"}"));
+		assertEquals(version, DataVersions.current(Emp.class));
+
+		Set<String> changed = dao.patch(1L, "{\"name\":\"Bob\",\"dept\":null,\"unknown\":1}");
+		assertEquals(new LinkedHashSet<String>(Arrays.asList("name")), changed);
+		assertEquals("Bob", emp.getName());
+		assertSame(dept, emp.getDept());
+		assertEquals(version + 1, DataVersions.current(Emp.class));
+
+		assertTrue(dao.patch(1L, "{\"name\":null}").contains("name"));
+		assertNull(emp.getName());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void patchMustBeObject() {
+		daoReturning(new Emp()).patch(1L, "[1]");
+	}
+
+	@Test
+	public void batchExecuteBumpsEntityClassByDefault() {
+		final List<Object> bound = new ArrayList<Object>();
+		SimpleHibernateDaoImpl<Emp, Long> dao = daoExecuting(bound);
+		long emps = DataVersions.current(Emp.class);
+		long depts = DataVersions.current(Dept.class);
+
+		assertEquals(3, dao.batchExecute("update Emp set name = ?", "x"));
+		assertEquals(Arrays.<Object>asList("x"), bound);
+		assertEquals(emps + 1, DataVersions.current(Emp.class));
+		assertEquals(3, dao.batchExecute("update Emp set name = :name", Collections.singletonMap("name", "y")));
+		assertEquals(emps + 2, DataVersions.current(Emp.class));
+		assertEquals(depts, DataVersions.current(Dept.class));
+	}
+
+	@Test
+	public void batchExecuteBumpsAffectedClasses() {
+		final List<Object> bound = new ArrayList<Object>();
+		SimpleHibernateDaoImpl<Emp, Long> dao = daoExecuting(bound);
+		long emps = DataVersions.current(Emp.class);
+		long depts = DataVersions.current(Dept.class);
+
+		// 没有参数时也不会把affectedClasses当作HQL参数
+		dao.batchExecute(new Class<?>[] { Dept.class }, "delete Dept");
+		assertTrue(bound.isEmpty());
+		assertEquals(depts + 1, DataVersions.current(Dept.class));
+		dao.batchExecute(new Class<?>[] { Emp.class, Dept.class }, "delete Dept where id = :id",
+				Collections.singletonMap("id", 1L));
+		assertEquals(emps + 1, DataVersions.current(Emp.class));
+		assertEquals(depts + 2, DataVersions.current(Dept.class));
+	}
+
+	/**
+	 * 不连接数据库: get()直接返回emp, 映射元数据只包含Emp的name与dept两个属性
+	 */
+	private static SimpleHibernateDaoImpl<Emp, Long> daoReturning(final Emp emp) {
+		final String[] names = { "name", "dept" };
+		Type association = stub(Type.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				return method.getName().equals("isAssociationType");
+			}
+		});
+		final Type[] types = { StringType.INSTANCE, association };
+		final EntityPersister persister = stub(EntityPersister.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("getPropertyNames")) {
+					return names;
+				} else if (method.getName().equals("getPropertyTypes")) {
+					return types;
+				} else if (method.getName().equals("getPropertyValue")) {
+					return "name".equals(args[1]) ? emp.getName() : emp.getDept();
+				} else if (method.getName().equals("setPropertyValue")) {
+					if ((Integer) args[1] == 0) {
+						emp.setName((String) args[2]);
+					} else {
+						emp.setDept((Dept) args[2]);
+					}
+					return null;
+				}
+				throw new UnsupportedOperationException(method.getName());
+			}
+		});
+		final MetamodelImplementor metamodel = stub(MetamodelImplementor.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				return persister;
+			}
+		});
+		SessionFactory sessionFactory = stub(SessionFactoryImplementor.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				return method.getName().equals("unwrap") ? proxy : metamodel;
+			}
+		});
+		return new SimpleHibernateDaoImpl<Emp, Long>(sessionFactory, Emp.class) {
+			@Override
+			public Emp get(Long id) {
+				return emp;
+			}
+		};
+	}
+
+	/**
+	 * 不连接数据库: 记录绑定的参数, executeUpdate()返回3
+	 */
+	private static SimpleHibernateDaoImpl<Emp, Long> daoExecuting(final List<Object> bound) {
+		final Query query = stub(Query.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				return 3;
+			}
+		});
+		return new SimpleHibernateDaoImpl<Emp, Long>(null, Emp.class) {
+			@Override
+			public Query createQuery(String queryString, Object... values) {
+				bound.addAll(Arrays.asList(values));
+				return query;
+			}
+
+			@Override
+			public Query createQuery(String queryString, Map<String, ?> values) {
+				bound.addAll(values.values());
+				return query;
+			}
+		};
+	}
+
+	private static <T> T stub(Class<T> type, InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+}
@@ -0,0 +1,68 @@
+package com.literature.common.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class MpscRingBufferTest {
+
+	@Test
+	public void fullAndWrapAround() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<Integer>(3);
+		assertEquals(4, buffer.capacity());
+		for (int i = 0; i < 4; i++) {
+			assertTrue(buffer.offer(i));
+		}
+		assertFalse(buffer.offer(4));
+		assertEquals(Integer.valueOf(0), buffer.poll());
+		assertTrue(buffer.offer(4));
+		for (int i = 1; i <= 4; i++) {
+			assertEquals(Integer.valueOf(i), buffer.poll());
+		}
+		assertNull(buffer.poll());
+	}
+
+	@Test
+	public void concurrentProducersKeepPerProducerOrder() throws InterruptedException {
+		final int producers = 4;
+		final int perProducer = 200000;
+		final MpscRingBuffer<long[]> buffer = new MpscRingBuffer<long[]>(1024);
+		final CountDownLatch start = new CountDownLatch(1);
+		for (int p = 0; p < producers; p++) {
+			final int producer = p;
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < perProducer; i++) {
+					long[] element = { producer, i };
+					while (!buffer.offer(element)) {
+						Thread.yield();
+					}
+				}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+		start.countDown();
+		long[] next = new long[producers];
+		int received = 0;
+		while (received < producers * perProducer) {
+			long[] element = buffer.poll();
+			if (element == null) {
+				Thread.yield();
+				continue;
+			}
+			assertEquals(next[(int) element[0]]++, element[1]);
+			received++;
+		}
+		assertNull(buffer.poll());
+	}
+}
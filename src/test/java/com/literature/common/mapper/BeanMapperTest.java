@@ -0,0 +1,81 @@
+package com.literature.common.mapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+import com.literature.domain.view.DeptView;
+import com.literature.domain.view.EmpView;
+
+public class BeanMapperTest {
+
+	@Test
+	public void empToView() {
+		Dept dept = dept(7L, "IT");
+		Emp emp = emp(1L, "Alice", dept);
+		EmpView view = Mappers.map(emp, EmpView.class);
+		assertEquals(Long.valueOf(1L), view.getId());
+		assertEquals("Alice", view.getName());
+		assertEquals(Long.valueOf(7L), view.getDeptId());
+		assertEquals("IT", view.getDeptName());
+
+		EmpView noDept = Mappers.map(emp(2L, "Bob", null), EmpView.class);
+		assertNull(noDept.getDeptId());
+		assertNull(noDept.getDeptName());
+		assertNull(Mappers.map(null, EmpView.class));
+	}
+
+	@Test
+	public void deptToViewWithNestedEmps() {
+		Dept dept = dept(7L, "IT");
+		dept.getEmps().add(emp(1L, "Alice", dept));
+		dept.getEmps().add(emp(2L, "Bob", dept));
+		DeptView view = Mappers.get(Dept.class, DeptView.class).map(dept);
+		assertEquals(Long.valueOf(7L), view.getId());
+		assertEquals("IT", view.getName());
+		List<EmpView> emps = view.getEmps();
+		assertEquals(2, emps.size());
+		Set<String> names = new TreeSet<String>();
+		for (EmpView emp : emps) {
+			names.add(emp.getName());
+			assertEquals(Long.valueOf(7L), emp.getDeptId());
+			assertEquals("IT", emp.getDeptName());
+		}
+		assertEquals(new TreeSet<String>(Arrays.asList("Alice", "Bob")), names);
+
+		dept.setEmps(null);
+		assertNull(Mappers.map(dept, DeptView.class).getEmps());
+	}
+
+	@Test
+	public void mapperIsCachedPerTypePair() {
+		assertSame(Mappers.get(Emp.class, EmpView.class), Mappers.get(Emp.class, EmpView.class));
+		assertEquals(Collections.<EmpView>emptyList(),
+				Mappers.get(Emp.class, EmpView.class).mapList(Collections.<Emp>emptyList()));
+	}
+
+	private static Dept dept(Long id, String name) {
+		Dept dept = new Dept();
+		dept.setId(id);
+		dept.setName(name);
+		return dept;
+	}
+
+	private static Emp emp(Long id, String name, Dept dept) {
+		Emp emp = new Emp();
+		emp.setId(id);
+		emp.setName(name);
+		emp.setDept(dept);
+		return emp;
+	}
+}
@@ -0,0 +1,120 @@
+package com.literature.common.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+
+/**
+ * 对比JSON文本与Smile/CBOR二进制格式输出Emp列表的报文大小与编解码吞吐量.
+ *
+ * 运行方式:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.literature.common.mapper.JsonMapperBenchmark
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMapperBenchmark {
+
+	@Param({ "1000" })
+	private int size;
+
+	private JsonMapper json = JsonMapper.nonEmptyMapper();
+	private JsonMapper smile = JsonMapper.smileMapper();
+	private JsonMapper cbor = JsonMapper.cborMapper();
+
+	private List<Emp> emps;
+	private JavaType empListType;
+	private String jsonString;
+	private byte[] smileBytes;
+	private byte[] cborBytes;
+
+	@Setup
+	public void setup() {
+		emps = createEmps(size);
+		empListType = json.contructCollectionType(List.class, Emp.class);
+		jsonString = json.toJson(emps);
+		smileBytes = smile.toBytes(emps);
+		cborBytes = cbor.toBytes(emps);
+	}
+
+	@Benchmark
+	public String jsonEncode() {
+		return json.toJson(emps);
+	}
+
+	@Benchmark
+	public byte[] smileEncode() {
+		return smile.toBytes(emps);
+	}
+
+	@Benchmark
+	public byte[] cborEncode() {
+		return cbor.toBytes(emps);
+	}
+
+	@Benchmark
+	public List<Emp> jsonDecode() {
+		return json.fromJson(jsonString, empListType);
+	}
+
+	@Benchmark
+	public List<Emp> smileDecode() {
+		return smile.fromJson(smileBytes, empListType);
+	}
+
+	@Benchmark
+	public List<Emp> cborDecode() {
+		return cbor.fromJson(cborBytes, empListType);
+	}
+
+	static List<Emp> createEmps(int size) {
+		List<Emp> emps = new ArrayList<Emp>(size);
+		Dept[] depts = new Dept[10];
+		for (int i = 0; i < depts.length; i++) {
+			depts[i] = new Dept();
+			depts[i].setId((long) i);
+			depts[i].setName("Department-" + i);
+		}
+		for (int i = 0; i < size; i++) {
+			Emp emp = new Emp();
+			emp.setId((long) i);
+			emp.setName("Employee-" + i);
+			emp.setDept(depts[i % depts.length]);
+			emps.add(emp);
+		}
+		return emps;
+	}
+
+	public static void main(String[] args) throws Exception {
+		List<Emp> emps = createEmps(1000);
+		System.out.println("payload bytes of 1000 Emp: json=" + JsonMapper.nonEmptyMapper().toBytes(emps).length
+				+ ", smile=" + JsonMapper.smileMapper().toBytes(emps).length + ", cbor="
+				+ JsonMapper.cborMapper().toBytes(emps).length);
+		new Runner(new OptionsBuilder().include(JsonMapperBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,92 @@
+package com.literature.common.mapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.util.LinkedMultiValueMap;
+
+import com.literature.domain.Dept;
+
+public class JsonMapperHttpMessageConverterTest {
+
+	@Test
+	public void leavesDefaultTypesToDefaultConverters() {
+		JsonMapperHttpMessageConverter converter = new JsonMapperHttpMessageConverter();
+		assertTrue(converter.canWrite(Dept.class, MediaType.ALL));
+		assertTrue(converter.canRead(Dept.class, MediaType.APPLICATION_JSON));
+		assertFalse(converter.canWrite(byte[].class, MediaType.ALL));
+		assertFalse(converter.canWrite(String.class, MediaType.ALL));
+		assertFalse(converter.canWrite(ByteArrayResource.class, MediaType.ALL));
+		assertFalse(converter.canWrite(LinkedMultiValueMap.class, MediaType.ALL));
+		assertFalse(converter.canRead(byte[].class, MediaType.APPLICATION_JSON));
+	}
+
+	@Test
+	public void readsGenericRequestBody() throws Exception {
+		JsonMapperHttpMessageConverter converter = new JsonMapperHttpMessageConverter();
+		Type listType = parameterType(Handlers.class, "saveAll");
+		assertTrue(converter.canRead(listType, Handlers.class, MediaType.APPLICATION_JSON));
+		@SuppressWarnings("unchecked")
+		List<Dept> depts = (List<Dept>) converter.read(listType, Handlers.class,
+				body("[{\"id\":1,\"name\":\"IT\"},{\"id\":2,\"name\":\"HR\"}]"));
+		assertEquals(2, depts.size());
+		assertEquals("HR", depts.get(1).getName());
+
+		@SuppressWarnings("unchecked")
+		Map<String, Dept> byName = (Map<String, Dept>) converter.read(parameterType(Handlers.class, "saveByName"),
+				Handlers.class, body("{\"IT\":{\"id\":1}}"));
+		assertEquals(Long.valueOf(1L), byName.get("IT").getId());
+	}
+
+	@Test
+	public void resolvesTypeVariablesFromContextClass() throws Exception {
+		JsonMapperHttpMessageConverter converter = new JsonMapperHttpMessageConverter();
+		@SuppressWarnings("unchecked")
+		List<Dept> depts = (List<Dept>) converter.read(parameterType(CrudHandler.class, "saveAll"), DeptHandler.class,
+				body("[{\"id\":3}]"));
+		assertEquals(Long.valueOf(3L), depts.get(0).getId());
+	}
+
+	private static Type parameterType(Class<?> clazz, String methodName) throws NoSuchMethodException {
+		for (java.lang.reflect.Method method : clazz.getDeclaredMethods()) {
+			if (method.getName().equals(methodName)) {
+				return method.getGenericParameterTypes()[0];
+			}
+		}
+		throw new NoSuchMethodException(methodName);
+	}
+
+	private static MockHttpInputMessage body(String json) {
+		MockHttpInputMessage message = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+		message.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		return message;
+	}
+
+	static class Handlers {
+
+		void saveAll(List<Dept> depts) {
+		}
+
+		void saveByName(Map<String, Dept> depts) {
+		}
+	}
+
+	static class CrudHandler<T> {
+
+		void saveAll(List<T> items) {
+		}
+	}
+
+	static class DeptHandler extends CrudHandler<Dept> {
+	}
+}
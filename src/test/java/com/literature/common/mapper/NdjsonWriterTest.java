@@ -0,0 +1,66 @@
+package com.literature.common.mapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import com.literature.domain.Dept;
+import com.literature.domain.Views;
+
+public class NdjsonWriterTest {
+
+	@Test
+	public void flushesEveryIntervalAndOnFinish() throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		NdjsonWriter<Dept> writer = new NdjsonWriter<Dept>(out,
+				JsonMapper.nonEmptyMapper().codecFor(Dept.class).withView(Views.Summary.class), 2);
+		for (long id = 1; id <= 5; id++) {
+			assertTrue(writer.process(dept(id)));
+		}
+		assertEquals(2, out.flushes);
+		writer.finish();
+		assertEquals(3, out.flushes);
+		assertTrue(writer.isFinished());
+		assertFalse(writer.isAborted());
+		assertEquals(5, writer.getCount());
+		assertEquals("{\"id\":1,\"name\":\"d1\"}\n{\"id\":2,\"name\":\"d2\"}\n{\"id\":3,\"name\":\"d3\"}\n"
+				+ "{\"id\":4,\"name\":\"d4\"}\n{\"id\":5,\"name\":\"d5\"}\n",
+				new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void flushedRowsAreComplete() throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		NdjsonWriter<Dept> writer = new NdjsonWriter<Dept>(out,
+				JsonMapper.nonEmptyMapper().codecFor(Dept.class).withView(Views.Summary.class), 2);
+		writer.process(dept(1));
+		writer.process(dept(2));
+		assertEquals("{\"id\":1,\"name\":\"d1\"}\n{\"id\":2,\"name\":\"d2\"}\n", out.flushedContent);
+	}
+
+	private static Dept dept(long id) {
+		Dept dept = new Dept();
+		dept.setId(id);
+		dept.setName("d" + id);
+		return dept;
+	}
+
+	private static class CountingOutputStream extends ByteArrayOutputStream {
+
+		int flushes;
+
+		String flushedContent;
+
+		@Override
+		public void flush() {
+			flushes++;
+			flushedContent = new String(toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
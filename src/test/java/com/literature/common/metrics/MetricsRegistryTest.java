@@ -0,0 +1,44 @@
+package com.literature.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+	@Test
+	public void textExposition() throws IOException {
+		MetricsRegistry registry = new MetricsRegistry();
+		MetricFamily<Counter> requests = registry.counter("requests_total", "Requests", "route");
+		requests.labels("/emp/{id}").add(3);
+		assertSame(requests, registry.counter("requests_total", "Requests", "route"));
+		registry.histogram("latency_seconds", "Latency", new double[] { 0.1, 1 }).labels().observe(0.5);
+		registry.gauge("limit", "Limit \\ \"max\"\nnext", () -> 2.5);
+
+		StringBuilder out = new StringBuilder();
+		registry.writeTo(out);
+		assertEquals("# HELP latency_seconds Latency\n"
+				+ "# TYPE latency_seconds histogram\n"
+				+ "latency_seconds_bucket{le=\"0.1\"} 0\n"
+				+ "latency_seconds_bucket{le=\"1\"} 1\n"
+				+ "latency_seconds_bucket{le=\"+Inf\"} 1\n"
+				+ "latency_seconds_sum 0.5\n"
+				+ "latency_seconds_count 1\n"
+				+ "# HELP limit Limit \\\\ \"max\"\\nnext\n"
+				+ "# TYPE limit gauge\n"
+				+ "limit 2.5\n"
+				+ "# HELP requests_total Requests\n"
+				+ "# TYPE requests_total counter\n"
+				+ "requests_total{route=\"/emp/{id}\"} 3\n", out.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void conflictingType() {
+		MetricsRegistry registry = new MetricsRegistry();
+		registry.counter("jobs", "Jobs");
+		registry.histogram("jobs", "Jobs", Histogram.LATENCY_BUCKETS);
+	}
+}
@@ -0,0 +1,78 @@
+package com.literature.common.net;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 数万个随机网段时CidrTrie的匹配耗时, 含解析地址字符串与只做匹配两种情况.
+ *
+ * 运行方式:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.literature.common.net.CidrTrieBenchmark
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CidrTrieBenchmark {
+
+	@Param({ "50000" })
+	private int ranges;
+
+	private CidrTrie trie;
+
+	private String[] texts;
+
+	private IpAddress[] addresses;
+
+	private int index;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		trie = new CidrTrie();
+		for (int i = 0; i < ranges; i++) {
+			int prefixLength = 16 + random.nextInt(17);
+			trie.add(IpAddress.ofIpv4(random.nextInt()), 96 + prefixLength);
+		}
+		texts = new String[1024];
+		addresses = new IpAddress[texts.length];
+		for (int i = 0; i < texts.length; i++) {
+			addresses[i] = IpAddress.ofIpv4(random.nextInt());
+			texts[i] = addresses[i].toString();
+		}
+	}
+
+	@Benchmark
+	public boolean containsAddress() {
+		return trie.contains(addresses[index++ & 1023]);
+	}
+
+	@Benchmark
+	public boolean containsText() {
+		return trie.contains(texts[index++ & 1023]);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(CidrTrieBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,106 @@
+package com.literature.common.net;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CidrTrieTest {
+
+	@Test
+	public void parse() {
+		assertEquals("192.168.1.10", IpAddress.parse("192.168.1.10").toString());
+		assertEquals("2001:db8::1", IpAddress.parse("2001:0DB8:0:0:0:0:0:1").toString());
+		assertEquals("::1", IpAddress.parse("0:0:0:0:0:0:0:1").toString());
+		assertEquals("1.2.3.4", IpAddress.parse("::ffff:1.2.3.4").toString());
+		assertEquals("fe80::1", IpAddress.parse("fe80::1%eth0").toString());
+		assertEquals("::", IpAddress.parse("::").toString());
+		assertTrue(IpAddress.parse("10.0.0.1").isIpv4());
+		assertNull(IpAddress.parse("256.1.1.1"));
+		assertNull(IpAddress.parse("1.2.3"));
+		assertNull(IpAddress.parse("1.2.3.4.5"));
+		assertNull(IpAddress.parse("1::2::3"));
+		assertNull(IpAddress.parse("1:2:3:4:5:6:7:8:9"));
+		assertNull(IpAddress.parse("12345::"));
+		assertNull(IpAddress.parse("unknown"));
+	}
+
+	@Test
+	public void contains() {
+		CidrTrie trie = new CidrTrie().add("10.0.0.0/8").add("192.168.1.0/24").add("192.168.2.7")
+				.add("2001:db8::/32").add("10.1.0.0/16");
+		assertEquals(5, trie.size());
+		assertTrue(trie.contains("10.255.0.1"));
+		assertTrue(trie.contains("10.1.2.3"));
+		assertTrue(trie.contains("192.168.1.255"));
+		assertTrue(trie.contains("192.168.2.7"));
+		assertTrue(trie.contains("2001:db8:ffff::1"));
+		assertFalse(trie.contains("11.0.0.1"));
+		assertFalse(trie.contains("192.168.2.8"));
+		assertFalse(trie.contains("192.168.0.1"));
+		assertFalse(trie.contains("2001:db9::1"));
+		assertFalse(trie.contains("not an ip"));
+		assertTrue(new CidrTrie().add("0.0.0.0/0").contains("8.8.8.8"));
+		assertFalse(new CidrTrie().add("0.0.0.0/0").contains("::1"));
+	}
+
+	@Test
+	public void splitAtIpv4IndexBoundary() {
+		CidrTrie trie = new CidrTrie().add("10.1.0.1").add("10.1.200.1");
+		assertTrue(trie.contains("10.1.0.1"));
+		assertTrue(trie.contains("10.1.200.1"));
+		assertFalse(trie.contains("10.1.200.2"));
+		assertEquals("6.6.6.6", TrustedProxies.of("10.1.0.1, 10.1.200.1").resolve("10.1.200.1", "6.6.6.6").toString());
+	}
+
+	@Test
+	public void matchesLinearScan() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			CidrTrie trie = new CidrTrie();
+			List<int[]> cidrs = new ArrayList<int[]>();
+			int count = 1 + random.nextInt(30);
+			for (int i = 0; i < count; i++) {
+				int address = randomAddress(random);
+				// 较短的网段会覆盖整个/16, 只占少数
+				int prefixLength = random.nextInt(8) == 0 ? random.nextInt(33) : 17 + random.nextInt(16);
+				cidrs.add(new int[] { address, prefixLength });
+				trie.add(IpAddress.ofIpv4(address), 96 + prefixLength);
+			}
+			for (int i = 0; i < 500; i++) {
+				int address = random.nextBoolean() ? randomAddress(random) : cidrs.get(random.nextInt(count))[0];
+				boolean expected = false;
+				for (int[] cidr : cidrs) {
+					int mask = cidr[1] == 0 ? 0 : -1 << (32 - cidr[1]);
+					expected |= ((address ^ cidr[0]) & mask) == 0;
+				}
+				assertEquals(IpAddress.ofIpv4(address).toString(), expected, trie.contains(IpAddress.ofIpv4(address)));
+			}
+		}
+	}
+
+	/**
+	 * 集中在少数几个/16内, 使分叉点经常落在/16上下
+	 */
+	private static int randomAddress(Random random) {
+		return 10 << 24 | random.nextInt(4) << 16 | random.nextInt(4) << 14 | random.nextInt(1 << 14);
+	}
+
+	@Test
+	public void resolveForwardedFor() {
+		TrustedProxies proxies = TrustedProxies.of("127.0.0.1, 10.0.0.0/8");
+		assertEquals("8.8.8.8", proxies.resolve("8.8.8.8", "1.1.1.1").toString());
+		assertEquals("1.1.1.1", proxies.resolve("127.0.0.1", "6.6.6.6, 1.1.1.1, 10.0.0.2").toString());
+		assertEquals("2001:db8::1", proxies.resolve("10.0.0.1", "[2001:db8::1]:443").toString());
+		assertEquals("1.1.1.1", proxies.resolve("10.0.0.1", "1.1.1.1:8080").toString());
+		assertEquals("10.0.0.2", proxies.resolve("10.0.0.1", "unknown, 10.0.0.2").toString());
+		assertEquals("10.0.0.3", proxies.resolve("10.0.0.1", "10.0.0.3,10.0.0.2").toString());
+		assertEquals("127.0.0.1", TrustedProxies.NONE.resolve("127.0.0.1", "1.1.1.1").toString());
+	}
+}
@@ -0,0 +1,31 @@
+package com.literature.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class CachedClockTest {
+
+	@Test
+	public void timestampIsNotShared() {
+		CachedClock clock = new CachedClock(TimeUnit.HOURS.toMillis(1));
+		Timestamp first = clock.timestamp();
+		first.setTime(0);
+		first.setNanos(1);
+		Timestamp second = clock.timestamp();
+		assertNotSame(first, second);
+		assertEquals(clock.millis(), second.getTime());
+	}
+
+	@Test
+	public void stringsFollowMillis() {
+		CachedClock clock = new CachedClock(TimeUnit.HOURS.toMillis(1));
+		assertEquals(clock.date() + ' ' + clock.time(), clock.dateTime());
+		assertEquals(DateUtils.formatDateTime(new Date(clock.millis())), clock.dateTime());
+	}
+}
@@ -0,0 +1,102 @@
+package com.literature.common.utils;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 对比DateUtils基于java.time的实现与原先基于SimpleDateFormat/逐个尝试格式的实现.
+ * legacy*方法保留原实现作为基准.
+ *
+ * 运行方式:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.literature.common.utils.DateUtilsBenchmark
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+	private static final String[] parsePatterns = { "yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm",
+			"yyyy/MM/dd", "yyyy/MM/dd HH:mm:ss", "yyyy/MM/dd HH:mm" };
+
+	private Date now = new Date();
+
+	@Benchmark
+	public Date parseDateTime() {
+		return DateUtils.parseDate("2026/10/19 08:30:15");
+	}
+
+	@Benchmark
+	public Date legacyParseDateTime() {
+		return legacyParseDate("2026/10/19 08:30:15");
+	}
+
+	@Benchmark
+	public Date parseInvalid() {
+		return DateUtils.parseDate("not a date");
+	}
+
+	@Benchmark
+	public Date legacyParseInvalid() {
+		return legacyParseDate("not a date");
+	}
+
+	@Benchmark
+	public Date dateStart() {
+		return DateUtils.getDateStart(now);
+	}
+
+	@Benchmark
+	public Date legacyDateStart() throws ParseException {
+		return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(DateUtils.formatDate(now, "yyyy-MM-dd") + " 00:00:00");
+	}
+
+	@Benchmark
+	public boolean isDate() {
+		return DateUtils.isDate("2026-10-19");
+	}
+
+	@Benchmark
+	public boolean legacyIsDate() {
+		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+		format.setLenient(false);
+		try {
+			format.parse("2026-10-19");
+		} catch (Exception e) {
+			return false;
+		}
+		return true;
+	}
+
+	private static Date legacyParseDate(String str) {
+		try {
+			return org.apache.commons.lang3.time.DateUtils.parseDate(str, parsePatterns);
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(DateUtilsBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,47 @@
+package com.literature.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class HtmlTextTest {
+
+	@Test
+	public void stripTags() {
+		String plain = "no tags here";
+		assertSame(plain, HtmlText.stripTags(plain));
+		assertEquals("ab", HtmlText.stripTags("<p>a<b>b</b></p>"));
+		assertEquals("1  2", HtmlText.stripTags("1 < 2 and 3 > 2"));
+		// 与"<.+?>"一致: 标签内至少一个字符且不能跨行
+		assertEquals("a<>b", HtmlText.stripTags("a<>b"));
+		assertEquals("ab", HtmlText.stripTags("a<>>b"));
+		assertEquals("a<b\nc>d", HtmlText.stripTags("a<b\nc>d"));
+		assertEquals("a<b", HtmlText.stripTags("a<b"));
+	}
+
+	@Test
+	public void abbreviateDecodesEntities() {
+		assertEquals("\"&<>", HtmlText.abbreviate("&quot;&amp;&lt;&gt;", 100));
+		assertEquals("\u00A0\u00E9\u00FF", HtmlText.abbreviate("&nbsp;&eacute;&yuml;", 100));
+		assertEquals("\u0192\u03A9\u20AC\u2665", HtmlText.abbreviate("&fnof;&Omega;&euro;&hearts;", 100));
+		assertEquals("AB\uD83D\uDE00", HtmlText.abbreviate("&#65;&#x42;&#x1F600;", 100));
+		assertEquals("&unknown; &amp &#12", HtmlText.abbreviate("&unknown; &amp &#12", 100));
+	}
+
+	@Test
+	public void abbreviateStripsDecodedTags() {
+		assertEquals("x", HtmlText.abbreviate("&lt;b&gt;x&lt;/b&gt;", 100));
+		assertEquals("x", HtmlText.abbreviate("<b>x</b>", 100));
+	}
+
+	@Test
+	public void abbreviateByGbkWidth() {
+		assertEquals("abc", HtmlText.abbreviate("abc", 6));
+		assertEquals("abc...", HtmlText.abbreviate("abcdef", 6));
+		assertEquals("\u4E2D...", HtmlText.abbreviate("\u4E2D\u6587abc", 6));
+		assertEquals("\u4E2D\u6587a...", HtmlText.abbreviate("\u4E2D\u6587abc", 8));
+		assertEquals("", HtmlText.abbreviate("   ", 6));
+		assertEquals("", HtmlText.abbreviate("          ", 6));
+	}
+}
@@ -0,0 +1,34 @@
+package com.literature.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PropertiesLoaderTest {
+
+	private final PropertiesLoader loader = new PropertiesLoader("classpath:application.properties");
+
+	@Test
+	public void defaultsForMissingKeys() {
+		assertEquals(Integer.valueOf(7), loader.getInteger("missing.int", 7));
+		assertEquals(Double.valueOf(7), loader.getDouble("missing.double", 7));
+		assertNull(loader.getDouble("missing.double", null));
+		assertTrue(loader.getBoolean("missing.bool", true));
+		assertEquals("x", loader.getProperty("missing.string", "x"));
+	}
+
+	@Test
+	public void presentKeysIgnoreDefaults() {
+		assertEquals(Integer.valueOf(40), loader.getInteger("jdbc.pool.maxActive", 7));
+		assertEquals(Double.valueOf(40), loader.getDouble("jdbc.pool.maxActive", 7));
+		assertFalse(loader.getBoolean("hibernate.show_sql", true));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void missingKeyWithoutDefault() {
+		loader.getInteger("missing.int");
+	}
+}
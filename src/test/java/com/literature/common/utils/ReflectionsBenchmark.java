@@ -0,0 +1,98 @@
+package com.literature.common.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.literature.common.dao.SimpleHibernateDaoImpl;
+import com.literature.domain.Emp;
+
+/**
+ * 对比Reflections中Field/Method/泛型参数查找经过缓存与每次向上遍历类层次的开销.
+ *
+ * 运行方式:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.literature.common.utils.ReflectionsBenchmark
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionsBenchmark {
+
+	private Emp emp = new Emp();
+
+	@Benchmark
+	public Field fieldCached() {
+		return Reflections.getAccessibleField(emp, "name");
+	}
+
+	@Benchmark
+	public Field fieldUncached() {
+		return Reflections.findAccessibleField(Emp.class, "name");
+	}
+
+	@Benchmark
+	public Field missingFieldCached() {
+		return Reflections.getAccessibleField(emp, "missing");
+	}
+
+	@Benchmark
+	public Field missingFieldUncached() {
+		return Reflections.findAccessibleField(Emp.class, "missing");
+	}
+
+	@Benchmark
+	public Method methodCached() {
+		return Reflections.getAccessibleMethod(emp, "setName", String.class);
+	}
+
+	@Benchmark
+	public Method methodUncached() {
+		return Reflections.findAccessibleMethod(Emp.class, "setName", String.class);
+	}
+
+	@Benchmark
+	public Method methodByNameCached() {
+		return Reflections.getAccessibleMethodByName(emp, "setName");
+	}
+
+	@Benchmark
+	public Method methodByNameUncached() {
+		return Reflections.findAccessibleMethodByName(Emp.class, "setName");
+	}
+
+	@Benchmark
+	public Class<?> genericTypeCached() {
+		return Reflections.getClassGenricType(EmpDao.class, 1);
+	}
+
+	@Benchmark
+	public Class<?> genericTypeUncached() {
+		return Reflections.findClassGenricType(EmpDao.class, 1);
+	}
+
+	private static class EmpDao extends SimpleHibernateDaoImpl<Emp, Long> {
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder().include(ReflectionsBenchmark.class.getSimpleName()).build()).run();
+	}
+}
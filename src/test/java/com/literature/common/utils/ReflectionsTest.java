@@ -0,0 +1,39 @@
+package com.literature.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import com.literature.domain.Dept;
+import com.literature.domain.Emp;
+
+public class ReflectionsTest {
+
+	@Test
+	public void applicationClass() {
+		assertTrue(Reflections.isApplicationClass(Emp.class));
+		assertTrue(Reflections.isApplicationClass(ReflectionsTest.class));
+		assertFalse(Reflections.isApplicationClass(String.class));
+		assertFalse(Reflections.isApplicationClass(java.sql.Date.class));
+	}
+
+	@Test
+	public void accessorsOnApplicationAndJdkClasses() {
+		Emp emp = new Emp();
+		emp.setDept(new Dept());
+		Reflections.invokeSetter(emp, "dept.name", "IT");
+		assertEquals("IT", Reflections.invokeGetter(emp, "dept.name"));
+
+		// JDK的类型不缓存, 结果与缓存的类型一致
+		Date date = new Date(0);
+		Reflections.invokeSetter(date, "time", 1000L);
+		assertEquals(1000L, Reflections.invokeGetter(date, "time"));
+		assertNotNull(Reflections.getAccessibleMethodByName(date, "getTime"));
+		assertEquals(Object.class, Reflections.getClassGenricType(Date.class));
+	}
+}
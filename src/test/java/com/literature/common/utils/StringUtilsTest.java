@@ -0,0 +1,117 @@
+package com.literature.common.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class StringUtilsTest {
+
+	@Test
+	public void parseLong() {
+		assertEquals(123L, StringUtils.parseLong("123", -1));
+		assertEquals(-42L, StringUtils.parseLong("  -42 ", -1));
+		assertEquals(7L, StringUtils.parseLong("+7", -1));
+		assertEquals(1000L, StringUtils.parseLong("1e3", -1));
+		assertEquals(-1L, StringUtils.parseLong("abc", -1));
+		assertEquals(-1L, StringUtils.parseLong("", -1));
+		assertEquals(-1L, StringUtils.parseLong("-", -1));
+		assertEquals(-1L, StringUtils.parseLong(".", -1));
+		assertEquals(-1L, StringUtils.parseLong(null, -1));
+	}
+
+	@Test
+	public void parseLongTruncatesFraction() {
+		assertEquals(19L, StringUtils.parseLong("19.9", -1));
+		assertEquals(-19L, StringUtils.parseLong("-19.9", -1));
+		assertEquals(0L, StringUtils.parseLong(".5", -1));
+		assertEquals(5L, StringUtils.parseLong("5.", -1));
+		// 小数部分不经过double舍入
+		assertEquals(19L, StringUtils.parseLong("19.9999999999999999", -1));
+		assertEquals(0L, StringUtils.parseLong(".99999999999999999", -1));
+	}
+
+	@Test
+	public void parseLongBeyondDoublePrecision() {
+		// 2^53 + 1 不能用double精确表示
+		assertEquals(9007199254740993L, StringUtils.parseLong("9007199254740993", -1));
+		assertEquals(Long.MAX_VALUE, StringUtils.parseLong("9223372036854775807", -1));
+		assertEquals(Long.MIN_VALUE, StringUtils.parseLong("-9223372036854775808", -1));
+	}
+
+	@Test
+	public void parseLongOverflow() {
+		// 超出long范围时同Double.valueOf(s).longValue()
+		assertEquals(Long.MAX_VALUE, StringUtils.parseLong("9223372036854775808", -1));
+		assertEquals(Long.MIN_VALUE, StringUtils.parseLong("-9223372036854775809", -1));
+		assertEquals(Long.MAX_VALUE, StringUtils.parseLong("123456789012345678901234567890", -1));
+	}
+
+	@Test
+	public void parseLongSlice() {
+		assertEquals(123L, StringUtils.parseLong("id=123;", 3, 6, -1));
+		assertEquals(12L, StringUtils.parseLong("a 12 b", 1, 5, -1));
+		assertEquals(-1L, StringUtils.parseLong("a 12 b", 0, 5, -1));
+		assertEquals(-1L, StringUtils.parseLong("123", 1, 1, -1));
+	}
+
+	@Test
+	public void parseInt() {
+		assertEquals(123, StringUtils.parseInt("123", -1));
+		assertEquals(12, StringUtils.parseInt("12.7", -1));
+		assertEquals(-1, StringUtils.parseInt("x", -1));
+		// 超出int范围时按long截断
+		assertEquals(Integer.MIN_VALUE, StringUtils.parseInt("2147483648", -1));
+		assertEquals(Integer.MAX_VALUE, StringUtils.parseInt("2147483647", -1));
+		assertEquals(45, StringUtils.parseInt("x,45,y", 2, 4, -1));
+	}
+
+	@Test
+	public void parseDouble() {
+		assertBits(0.1, StringUtils.parseDouble("0.1", -1));
+		assertBits(-2.5, StringUtils.parseDouble(" -2.5 ", -1));
+		assertBits(-0.0, StringUtils.parseDouble("-0", -1));
+		assertBits(1e-5, StringUtils.parseDouble("1e-5", -1));
+		assertBits(Double.NaN, StringUtils.parseDouble("NaN", -1));
+		assertBits(-1, StringUtils.parseDouble("abc", -1));
+		assertBits(-1, StringUtils.parseDouble("1.2.3", -1));
+		assertBits(-1, StringUtils.parseDouble(null, -1));
+		assertBits(3.25, StringUtils.parseDouble("[3.25]", 1, 5, -1));
+	}
+
+	@Test
+	public void parseDoubleAtExactMantissaLimit() {
+		// 尾数达到2^53时改用Double.parseDouble, 结果仍与其一致
+		for (String s : new String[] { "9007199254740991", "9007199254740992", "9007199254740993",
+				"900719925474099.3", "0.9007199254740993", "1.2345678901234567", "0.0000000000000000000001",
+				"0.00000000000000000000001" }) {
+			assertBits(Double.parseDouble(s), StringUtils.parseDouble(s, -1));
+		}
+	}
+
+	@Test
+	public void parseDoubleMatchesJdk() {
+		Random random = new Random(42);
+		for (int round = 0; round < 10000; round++) {
+			StringBuilder sb = new StringBuilder();
+			if (random.nextBoolean()) {
+				sb.append('-');
+			}
+			int digits = 1 + random.nextInt(18);
+			int point = random.nextInt(digits + 1);
+			for (int i = 0; i < digits; i++) {
+				if (i == point) {
+					sb.append('.');
+				}
+				sb.append((char) ('0' + random.nextInt(10)));
+			}
+			String s = sb.toString();
+			assertBits(Double.parseDouble(s), StringUtils.parseDouble(s, -1));
+		}
+	}
+
+	private static void assertBits(double expected, double actual) {
+		assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+	}
+}
@@ -0,0 +1,61 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AdaptiveLimiterTest {
+
+	private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	public void priorityReserve() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 100, 0.2, 0);
+		for (int i = 0; i < 8; i++) {
+			assertTrue(limiter.acquire(false, 0, TimeUnit.MILLISECONDS));
+		}
+		assertFalse(limiter.acquire(false, 0, TimeUnit.MILLISECONDS));
+		assertTrue(limiter.acquire(true, 0, TimeUnit.MILLISECONDS));
+		assertTrue(limiter.acquire(true, 0, TimeUnit.MILLISECONDS));
+		assertFalse(limiter.acquire(true, 0, TimeUnit.MILLISECONDS));
+		assertEquals(10, limiter.getInflight());
+	}
+
+	@Test
+	public void queueUntilReleased() throws InterruptedException {
+		final AdaptiveLimiter limiter = new AdaptiveLimiter(1, 1, 1, 0, 1);
+		assertTrue(limiter.acquire(false, 0, TimeUnit.MILLISECONDS));
+		assertFalse(limiter.acquire(false, 10, TimeUnit.MILLISECONDS));
+		Thread releaser = new Thread() {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException e) {
+					return;
+				}
+				limiter.release(MILLIS, false);
+			}
+		};
+		releaser.start();
+		assertTrue(limiter.acquire(false, 5, TimeUnit.SECONDS));
+		releaser.join();
+	}
+
+	@Test
+	public void shrinkWhenPoolSaturated() throws InterruptedException {
+		AdaptiveLimiter limiter = new AdaptiveLimiter(10, 1, 100, 0, 0);
+		limiter.updatePool(40, 40, 40);
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.acquire(false, 0, TimeUnit.MILLISECONDS));
+		}
+		for (int i = 0; i < 10; i++) {
+			limiter.release(MILLIS, true);
+		}
+		assertTrue(limiter.getLimit() < 10);
+	}
+}
@@ -0,0 +1,145 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CompressionFilterTest {
+
+	private CompressionFilter filter;
+
+	@Before
+	public void setUp() throws ServletException {
+		filter = new CompressionFilter();
+		filter.init(new MockFilterConfig());
+	}
+
+	@Test
+	public void negotiate() {
+		assertEquals("gzip", CompressionFilter.negotiate("gzip, deflate, br"));
+		assertEquals("deflate", CompressionFilter.negotiate("deflate, gzip;q=0"));
+		assertEquals("gzip", CompressionFilter.negotiate("*;q=0.5"));
+		assertEquals("deflate", CompressionFilter.negotiate("gzip;q=0, *"));
+		assertEquals("deflate", CompressionFilter.negotiate("*, gzip;q=0"));
+		assertNull(CompressionFilter.negotiate("gzip;q=0, deflate;q=0, *"));
+		assertEquals("gzip", CompressionFilter.negotiate("gzip, *;q=0"));
+		assertNull(CompressionFilter.negotiate("identity"));
+		assertNull(CompressionFilter.negotiate(null));
+	}
+
+	@Test
+	public void gzipLargeResponseWithSyncFlush() throws Exception {
+		final byte[] body = body(100000);
+		MockHttpServletResponse response = run("gzip", "application/json", body, true);
+		assertEquals("gzip", response.getHeader("Content-Encoding"));
+		assertEquals("Accept-Encoding", response.getHeader("Vary"));
+		assertNull(response.getHeader("Content-Length"));
+		byte[] compressed = response.getContentAsByteArray();
+		assertTrue(compressed.length < body.length / 4);
+		assertArrayEquals(body, read(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+	}
+
+	@Test
+	public void deflateUsesZlibFormat() throws Exception {
+		byte[] body = body(5000);
+		MockHttpServletResponse response = run("deflate", "text/html;charset=UTF-8", body, false);
+		assertEquals("deflate", response.getHeader("Content-Encoding"));
+		assertArrayEquals(body,
+				read(new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+	}
+
+	@Test
+	public void smallResponseIsNotCompressed() throws Exception {
+		byte[] body = body(300);
+		MockHttpServletResponse response = run("gzip", "application/json", body, true);
+		assertNull(response.getHeader("Content-Encoding"));
+		assertEquals(300, response.getContentLength());
+		assertArrayEquals(body, response.getContentAsByteArray());
+	}
+
+	@Test
+	public void compressedTypesAreNotCompressed() throws Exception {
+		byte[] body = body(100000);
+		MockHttpServletResponse response = run("gzip", "image/jpeg", body, false);
+		assertNull(response.getHeader("Content-Encoding"));
+		assertArrayEquals(body, response.getContentAsByteArray());
+		response = run("gzip", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", body, false);
+		assertNull(response.getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void resetBufferAfterCompressionStarted() throws Exception {
+		// 如forward前容器清空缓冲区: 已设置的Content-Encoding仍在, 之后的内容必须继续压缩
+		for (int length : new int[] { 300, 5000 }) {
+			final byte[] body = body(length);
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/emp/list");
+			request.addHeader("Accept-Encoding", "gzip");
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			filter.doFilter(request, response, (req, res) -> {
+				res.setContentType("application/json");
+				res.getOutputStream().write(body(2000));
+				res.resetBuffer();
+				res.getOutputStream().write(body);
+			});
+			assertEquals("gzip", response.getHeader("Content-Encoding"));
+			assertArrayEquals(body,
+					read(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+		}
+	}
+
+	private MockHttpServletResponse run(String acceptEncoding, final String contentType, final byte[] body,
+			final boolean flushInChunks) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/emp/list");
+		request.addHeader("Accept-Encoding", acceptEncoding);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		FilterChain chain = (req, res) -> {
+			res.setContentType(contentType);
+			ServletOutputStream out = res.getOutputStream();
+			int chunk = flushInChunks ? 777 : body.length;
+			for (int off = 0; off < body.length; off += chunk) {
+				out.write(body, off, Math.min(chunk, body.length - off));
+				if (flushInChunks) {
+					out.flush();
+				}
+			}
+		};
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private static byte[] body(int length) {
+		byte[] body = new byte[length];
+		for (int i = 0; i < length; i++) {
+			body[i] = (byte) "{\"id\":1,\"name\":\"literature\"},\n".charAt(i % 30);
+		}
+		return body;
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,149 @@
+package com.literature.common.web;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.literature.common.utils.VirtualThreads;
+
+/**
+ * 对比平台线程池与虚拟线程在相同线程内存预算下能同时处理多少个慢请求.
+ * 每个请求阻塞latency毫秒(模拟等待慢查询). 平台线程池的大小为内存预算/线程栈大小;
+ * 虚拟线程先实测每个阻塞的虚拟线程占用的堆内存, 同时执行数限制为内存预算/该值, 超出的请求排队等待, 与线程池的队列一致.
+ * 输出两种模式同时处理的最大请求数、全部完成的耗时与线程占用的内存(相对预算).
+ *
+ * 运行方式(虚拟线程需要JDK 21+, 低版本只运行平台线程模式):
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Xss1m -cp target/classes:target/test-classes:$(cat target/cp.txt) com.literature.common.web.ExecutorLoadHarness [请求数] [延迟毫秒] [内存预算MB]
+ * @author Literature
+ * @date 2026年10月19日
+ *
+ */
+public class ExecutorLoadHarness {
+
+	/**
+	 * 平台线程的栈大小, 与-Xss一致
+	 */
+	private static final long STACK_BYTES = 1024 * 1024;
+
+	/**
+	 * 测量虚拟线程内存占用时同时阻塞的线程数
+	 */
+	private static final int SAMPLE_THREADS = 2000;
+
+	public static void main(String[] args) throws Exception {
+		int requests = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		long latency = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+		long budgetBytes = (args.length > 2 ? Long.parseLong(args[2]) : 256) * 1024 * 1024;
+
+		System.out.printf("budget=%d MB, requests=%d, latency=%d ms%n", budgetBytes / 1024 / 1024, requests, latency);
+
+		int poolSize = (int) (budgetBytes / STACK_BYTES);
+		ThreadPoolTaskExecutor platform = TaskExecutors.platform(poolSize, requests);
+		platform.afterPropertiesSet();
+		try {
+			run("platform(" + poolSize + ")", platform, null, requests, latency, poolSize * STACK_BYTES, budgetBytes);
+		} finally {
+			platform.destroy();
+		}
+
+		if (VirtualThreads.isAvailable()) {
+			long threadBytes = measureVirtualThreadBytes();
+			int concurrency = (int) Math.max(1, Math.min(requests, budgetBytes / threadBytes));
+			System.out.printf("virtual thread: %d bytes each (measured with %d blocked threads)%n", threadBytes,
+					SAMPLE_THREADS);
+			VirtualThreadTaskExecutor virtual = TaskExecutors.virtual(concurrency);
+			try {
+				run("virtual(" + concurrency + ")", virtual, new Semaphore(concurrency), requests, latency, -1,
+						budgetBytes);
+			} finally {
+				virtual.destroy();
+			}
+		} else {
+			System.out.println("virtual: skipped, requires JDK 21+ (running " + VirtualThreads.javaVersion() + ")");
+		}
+	}
+
+	/**
+	 * 同时阻塞SAMPLE_THREADS个虚拟线程, 按堆内存的增长计算每个线程占用的字节数(虚拟线程的栈保存在堆中).
+	 */
+	private static long measureVirtualThreadBytes() throws InterruptedException {
+		VirtualThreadTaskExecutor executor = TaskExecutors.virtual(SAMPLE_THREADS);
+		final CountDownLatch started = new CountDownLatch(SAMPLE_THREADS);
+		final CountDownLatch release = new CountDownLatch(1);
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		try {
+			System.gc();
+			long before = memory.getHeapMemoryUsage().getUsed();
+			for (int i = 0; i < SAMPLE_THREADS; i++) {
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						started.countDown();
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				});
+			}
+			started.await();
+			long after = memory.getHeapMemoryUsage().getUsed();
+			return Math.max(1, (after - before) / SAMPLE_THREADS);
+		} finally {
+			release.countDown();
+			executor.destroy();
+		}
+	}
+
+	/**
+	 * @param admission 不为Null时提交前先取得许可, 任务结束后归还, 同时执行数不超过许可数(超出的请求在此排队).
+	 * @param threadBytes 线程栈占用的内存, -1表示按堆内存的增长计算(虚拟线程的栈保存在堆中).
+	 */
+	private static void run(String name, AsyncTaskExecutor executor, final Semaphore admission, int requests,
+			final long latency, long threadBytes, long budgetBytes) throws InterruptedException {
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger peak = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(requests);
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		long heapBefore = memory.getHeapMemoryUsage().getUsed();
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			if (admission != null) {
+				admission.acquire();
+			}
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					int current = running.incrementAndGet();
+					peak.accumulateAndGet(current, Math::max);
+					try {
+						Thread.sleep(latency);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						running.decrementAndGet();
+						if (admission != null) {
+							admission.release();
+						}
+						done.countDown();
+					}
+				}
+			});
+		}
+		Thread.sleep(latency / 2);
+		long heapAtPeak = memory.getHeapMemoryUsage().getUsed();
+		done.await();
+		long elapsed = (System.nanoTime() - start) / 1000000;
+		long bytes = threadBytes >= 0 ? threadBytes : Math.max(0, heapAtPeak - heapBefore);
+		System.out.printf("%-18s peak concurrent=%6d  elapsed=%7d ms  throughput=%8.1f req/s  thread memory=%6d / %d MB%n",
+				name, peak.get(), elapsed, requests * 1000.0 / elapsed, bytes / 1024 / 1024, budgetBytes / 1024 / 1024);
+	}
+}
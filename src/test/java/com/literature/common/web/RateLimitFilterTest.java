@@ -0,0 +1,52 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.servlet.ServletException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class RateLimitFilterTest {
+
+	private RateLimitFilter filter;
+
+	@Before
+	public void setUp() throws ServletException {
+		MockFilterConfig config = new MockFilterConfig();
+		config.addInitParameter("rules", "/static/** = off; /** = 2/m");
+		filter = new RateLimitFilter();
+		filter.init(config);
+	}
+
+	@Test
+	public void rotatingAuthorizationSharesIpBucket() throws Exception {
+		assertEquals(200, status("/emp/list", "10.0.0.1", "Bearer a"));
+		assertEquals(200, status("/emp/list", "10.0.0.1", "Bearer b"));
+		assertEquals(429, status("/emp/list", "10.0.0.1", "Bearer c"));
+		assertEquals(429, status("/emp/list", "10.0.0.1", null));
+		assertEquals(200, status("/emp/list", "10.0.0.2", "Bearer c"));
+	}
+
+	@Test
+	public void offRuleIsNotLimited() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			assertEquals(200, status("/static/app.js", "10.0.0.3", null));
+		}
+	}
+
+	private int status(String path, String ip, String authorization) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setRemoteAddr(ip);
+		if (authorization != null) {
+			request.addHeader("Authorization", authorization);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response.getStatus();
+	}
+}
@@ -0,0 +1,34 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class RateLimiterTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	public void burstThenSteadyRate() {
+		RateLimiter limiter = new RateLimiter(10, 1, TimeUnit.SECONDS, 3, 100);
+		long now = 1000 * SECOND;
+		assertEquals(0, limiter.tryAcquire("a", now));
+		assertEquals(0, limiter.tryAcquire("a", now));
+		assertEquals(0, limiter.tryAcquire("a", now));
+		long wait = limiter.tryAcquire("a", now);
+		assertEquals(SECOND / 10, wait);
+		// 其他key不受影响
+		assertEquals(0, limiter.tryAcquire("b", now));
+		assertEquals(0, limiter.tryAcquire("a", now + wait));
+		assertTrue(limiter.tryAcquire("a", now + wait) > 0);
+		// 空闲足够长时间后桶重新装满
+		long later = now + SECOND;
+		assertEquals(0, limiter.tryAcquire("a", later));
+		assertEquals(0, limiter.tryAcquire("a", later));
+		assertEquals(0, limiter.tryAcquire("a", later));
+		assertTrue(limiter.tryAcquire("a", later) > 0);
+	}
+}
@@ -0,0 +1,159 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.core.io.FileSystemResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletConfig;
+import org.springframework.mock.web.MockServletContext;
+
+public class StaticResourceServletTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private StaticResourceServlet servlet;
+
+	private byte[] script;
+
+	private byte[] large;
+
+	@Before
+	public void setUp() throws Exception {
+		File js = new File(folder.getRoot(), "static/js");
+		js.mkdirs();
+		StringBuilder source = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			source.append("function f").append(i).append("() { return ").append(i).append("; }\n");
+		}
+		script = source.toString().getBytes("UTF-8");
+		Files.write(new File(js, "app.js").toPath(), script);
+		large = new byte[5000];
+		for (int i = 0; i < large.length; i++) {
+			large[i] = (byte) (i * 31);
+		}
+		Files.write(new File(folder.getRoot(), "static/data.bin").toPath(), large);
+
+		// MockServletContext按javax.activation查找类型, 新版本JDK中没有
+		MockServletContext context = new MockServletContext(folder.getRoot().toURI().toString(),
+				new FileSystemResourceLoader()) {
+			@Override
+			public String getMimeType(String filePath) {
+				return filePath.endsWith(".js") ? "application/javascript" : null;
+			}
+		};
+		MockServletConfig config = new MockServletConfig(context);
+		config.addInitParameter("maxCachedSize", "4096");
+		servlet = new StaticResourceServlet();
+		servlet.init(config);
+	}
+
+	@Test
+	public void fingerprintedUrlIsCachedForAYear() throws Exception {
+		@SuppressWarnings("unchecked")
+		Map<String, String> urls = (Map<String, String>) servlet.getServletContext()
+				.getAttribute(StaticResourceServlet.ASSETS_ATTRIBUTE);
+		String url = urls.get("/static/js/app.js");
+		assertTrue(url, url.matches("/static/js/app\\.[0-9a-f]{10}\\.js"));
+
+		MockHttpServletResponse response = get(url.substring("/static".length()), null);
+		assertEquals(200, response.getStatus());
+		assertTrue(response.getHeader("Cache-Control").contains("max-age=31536000"));
+		assertArrayEquals(script, response.getContentAsByteArray());
+
+		response = get("/js/app.js", null);
+		assertEquals("no-cache", response.getHeader("Cache-Control"));
+		assertArrayEquals(script, response.getContentAsByteArray());
+	}
+
+	@Test
+	public void precompressedVariant() throws Exception {
+		assertNotNull(servlet.getAssets().get("/js/app.js").getGzipBytes());
+		MockHttpServletRequest request = request("/js/app.js");
+		request.addHeader("Accept-Encoding", "gzip, deflate");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		servlet.service(request, response);
+		assertEquals("gzip", response.getHeader("Content-Encoding"));
+		assertTrue(response.getContentAsByteArray().length < script.length / 2);
+		assertArrayEquals(script, read(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))));
+	}
+
+	@Test
+	public void conditionalRequests() throws Exception {
+		MockHttpServletResponse first = get("/js/app.js", null);
+		String etag = first.getHeader("ETag");
+		assertNotNull(etag);
+
+		MockHttpServletResponse response = get("/js/app.js", etag);
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+
+		MockHttpServletRequest request = request("/js/app.js");
+		request.addHeader("If-Modified-Since", servlet.getAssets().get("/js/app.js").getLastModified());
+		response = new MockHttpServletResponse();
+		servlet.service(request, response);
+		assertEquals(304, response.getStatus());
+
+		assertEquals(200, get("/js/app.js", "\"other\"").getStatus());
+	}
+
+	@Test
+	public void largeFileIsMapped() throws Exception {
+		StaticAssets.Asset asset = servlet.getAssets().get("/data.bin");
+		assertNull(asset.getBytes());
+		assertNotNull(asset.getMapped());
+		assertArrayEquals(large, get("/data.bin", null).getContentAsByteArray());
+		assertArrayEquals(large, get("/data.bin", null).getContentAsByteArray());
+	}
+
+	@Test
+	public void missingFile() throws Exception {
+		assertEquals(404, get("/js/missing.js", null).getStatus());
+	}
+
+	private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+		MockHttpServletRequest request = request(path);
+		if (ifNoneMatch != null) {
+			request.addHeader("If-None-Match", ifNoneMatch);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		servlet.service(request, response);
+		return response;
+	}
+
+	private MockHttpServletRequest request(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(servlet.getServletContext(), "GET",
+				"/static" + path);
+		request.setServletPath("/static");
+		request.setPathInfo(path);
+		return request;
+	}
+
+	private static byte[] read(InputStream in) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			out.write(buffer, 0, n);
+		}
+		return out.toByteArray();
+	}
+}
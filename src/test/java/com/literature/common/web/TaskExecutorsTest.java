@@ -0,0 +1,42 @@
+package com.literature.common.web;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import com.literature.common.utils.Global;
+import com.literature.common.utils.VirtualThreads;
+
+/**
+ * 按配置创建执行器并执行Callable; virtual-threads profile下mvc.executor=virtual, 在JDK 21+上以虚拟线程执行.
+ */
+public class TaskExecutorsTest {
+
+	@Test
+	public void mvcExecutorRunsCallable() throws Exception {
+		boolean virtual = TaskExecutors.VIRTUAL.equals(Global.getSnapshot().getString("mvc.executor", TaskExecutors.PLATFORM))
+				&& VirtualThreads.isAvailable();
+		AsyncTaskExecutor executor = TaskExecutors.mvcExecutor();
+		assertEquals(virtual, executor instanceof VirtualThreadTaskExecutor);
+		if (executor instanceof InitializingBean) {
+			((InitializingBean) executor).afterPropertiesSet();
+		}
+		try {
+			Future<Thread> future = executor.submit(() -> Thread.currentThread());
+			Thread thread = future.get(10, TimeUnit.SECONDS);
+			assertTrue(thread.getName().startsWith("mvc-async-"));
+			if (virtual) {
+				assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+			}
+		} finally {
+			((DisposableBean) executor).destroy();
+		}
+	}
+}